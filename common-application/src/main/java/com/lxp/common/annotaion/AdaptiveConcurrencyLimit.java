@@ -0,0 +1,23 @@
+package com.lxp.common.annotaion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Command 동시 처리 수 적응형 제한
+ * 핸들러 지연 시간이 평상시보다 latencyTolerance 배 이상 늘어나면 한도를 줄이고(곱셈 감소),
+ * 정상이면 조금씩 늘려(덧셈 증가) 과부하 시에도 처리 지연을 일정 수준으로 유지
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveConcurrencyLimit {
+    int initialLimit() default 20;
+    int minLimit() default 1;
+    int maxLimit() default 200;
+    /** 한도 초과 시 대기할 최대 시간 (0이면 즉시 거부) */
+    long maxWaitMillis() default 0;
+    double latencyTolerance() default 2.0;
+    double backoffRatio() default 0.9;
+}
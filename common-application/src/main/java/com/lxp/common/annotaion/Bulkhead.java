@@ -0,0 +1,20 @@
+package com.lxp.common.annotaion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 벌크헤드 적용
+ * 같은 이름의 호출이 동시에 maxConcurrentCalls 건을 넘지 않도록 제한
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    /** 벌크헤드 이름 (비어 있으면 메소드 시그니처, 같은 이름은 한도 공유) */
+    String name() default "";
+    int maxConcurrentCalls() default 25;
+    /** 자리가 없을 때 대기할 최대 시간 (0이면 즉시 거부) */
+    long maxWaitMillis() default 0;
+}
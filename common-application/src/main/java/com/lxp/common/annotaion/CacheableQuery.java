@@ -0,0 +1,20 @@
+package com.lxp.common.annotaion;
+
+import com.lxp.common.domain.event.DomainEvent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Query 결과 캐시 대상 표시
+ * Query 객체의 equals/hashCode를 캐시 키로 사용하므로 record 등 값 기반 타입에 적용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheableQuery {
+    long maxSize() default 1000;
+    long ttlSeconds() default 60;
+    Class<? extends DomainEvent>[] invalidateOn() default {};
+}
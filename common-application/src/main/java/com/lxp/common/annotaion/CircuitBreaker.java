@@ -0,0 +1,27 @@
+package com.lxp.common.annotaion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서킷 브레이커 적용
+ * 최근 windowSeconds 동안의 실패율이 임계치를 넘으면 openMillis 동안 호출을 차단하고
+ * 이후 halfOpenCalls 건의 시험 호출 결과로 복구 여부를 결정
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CircuitBreaker {
+    /** 브레이커 이름 (비어 있으면 메소드 시그니처, 같은 이름은 상태 공유) */
+    String name() default "";
+    int failureRateThreshold() default 50;
+    int minimumCalls() default 20;
+    int windowSeconds() default 10;
+    long openMillis() default 30_000;
+    int halfOpenCalls() default 5;
+    /** 실패로 집계할 예외 (비어 있으면 모든 예외) */
+    Class<? extends Throwable>[] recordFor() default {};
+    /** 실패로 집계하지 않을 예외 (비즈니스 예외 등) */
+    Class<? extends Throwable>[] ignoreFor() default {};
+}
@@ -0,0 +1,20 @@
+package com.lxp.common.annotaion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 Command 재실행
+ * CommandBus가 트랜잭션을 시작한 경우에만 영속성 컨텍스트를 비우고 새 트랜잭션에서 Command를 다시 처리
+ * serialize가 true이고 Command가 AggregateCommand이면 같은 Aggregate의 Command를 JVM 안에서 순차 처리
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+    int maxAttempts() default 3;
+    long initialBackoffMillis() default 20;
+    long maxBackoffMillis() default 500;
+    boolean serialize() default false;
+}
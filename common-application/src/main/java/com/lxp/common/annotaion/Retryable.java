@@ -8,7 +8,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Retryable {
-    int maxAttempts() default 3;
-    long backoffMillis() default 100;
+    /** 최대 시도 횟수 (0이면 RetryPolicy 값 사용) */
+    int maxAttempts() default 0;
+    /** 고정 대기 시간 (0이면 RetryPolicy의 백오프 사용) */
+    long backoffMillis() default 0;
     Class<? extends Exception>[] retryFor() default {};
 }
@@ -0,0 +1,18 @@
+package com.lxp.common.application.cqrs;
+
+/**
+ * 단일 Aggregate를 변경하는 Command
+ * 충돌 지표와 Aggregate 단위 순차 처리의 기준으로 사용
+ */
+public interface AggregateCommand extends Command {
+
+    /**
+     * 대상 Aggregate 타입
+     */
+    Class<?> aggregateType();
+
+    /**
+     * 대상 Aggregate 식별자
+     */
+    Object aggregateId();
+}
@@ -0,0 +1,20 @@
+package com.lxp.common.application.cqrs;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 Command Bus 인터페이스
+ * 호출 스레드를 점유하지 않고 별도 실행기에서 Handler를 실행
+ */
+public interface AsyncCommandBus {
+
+    /**
+     * Command 비동기 전송 (결과 없음)
+     */
+    <C extends Command> CompletableFuture<Void> dispatch(C command);
+
+    /**
+     * Command 비동기 전송 (결과 반환)
+     */
+    <C extends Command, R> CompletableFuture<R> dispatchWithResult(C command);
+}
@@ -0,0 +1,59 @@
+package com.lxp.common.application.cqrs;
+
+import java.util.List;
+
+/**
+ * Command 일괄 전송 결과
+ * 요청 순서대로 Command별 성공/실패 여부를 담음
+ *
+ * @param <C> Command 타입
+ */
+public record CommandBatchResult<C extends Command>(List<Item<C>> items) {
+
+    public CommandBatchResult {
+        items = List.copyOf(items);
+    }
+
+    public int successCount() {
+        return (int) items.stream().filter(Item::isSuccess).count();
+    }
+
+    public int failureCount() {
+        return items.size() - successCount();
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> !item.isSuccess());
+    }
+
+    /**
+     * 실패한 Command 목록
+     */
+    public List<Item<C>> failures() {
+        return items.stream()
+                .filter(item -> !item.isSuccess())
+                .toList();
+    }
+
+    /**
+     * 개별 Command 처리 결과
+     *
+     * @param index   요청 목록 내 위치
+     * @param command 전송한 Command
+     * @param error   실패 원인 (성공 시 null)
+     */
+    public record Item<C extends Command>(int index, C command, RuntimeException error) {
+
+        public static <C extends Command> Item<C> success(int index, C command) {
+            return new Item<>(index, command, null);
+        }
+
+        public static <C extends Command> Item<C> failure(int index, C command, RuntimeException error) {
+            return new Item<>(index, command, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.lxp.common.application.cqrs;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Command Bus 인터페이스
  * Command를 적절한 Handler로 라우팅
@@ -15,4 +18,22 @@ public interface CommandBus {
      * Command 전송 (결과 반환)
      */
     <C extends Command, R> R dispatchWithResult(C command);
+
+    /**
+     * Command 일괄 전송 (결과 없음)
+     * 일부 Command가 실패해도 나머지는 계속 처리하고 Command별 결과를 반환
+     */
+    default <C extends Command> CommandBatchResult<C> dispatchAll(List<C> commands) {
+        List<CommandBatchResult.Item<C>> items = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            C command = commands.get(i);
+            try {
+                dispatch(command);
+                items.add(CommandBatchResult.Item.success(i, command));
+            } catch (RuntimeException e) {
+                items.add(CommandBatchResult.Item.failure(i, command, e));
+            }
+        }
+        return new CommandBatchResult<>(items);
+    }
 }
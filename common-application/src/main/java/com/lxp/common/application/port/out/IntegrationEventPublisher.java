@@ -2,6 +2,9 @@ package com.lxp.common.application.port.out;
 
 import com.lxp.common.application.event.IntegrationEvent;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 통합 이벤트 발행 포트
  * 외부 바운디드 컨텍스트로 이벤트 전송
@@ -17,4 +20,37 @@ public interface IntegrationEventPublisher {
      * 토픽 지정하여 발행
      */
     void publish(String topic, IntegrationEvent event);
+
+    /**
+     * 여러 이벤트 발행
+     * 배치 전송을 지원하는 구현체는 한 번에 전송하도록 재정의
+     */
+    default void publishAll(Collection<? extends IntegrationEvent> events) {
+        events.forEach(this::publish);
+    }
+
+    /**
+     * 비동기 발행
+     * 반환된 Future는 이벤트 전송이 확인되면 완료됨 (기본 구현은 동기 발행 후 완료된 Future 반환)
+     */
+    default CompletableFuture<Void> publishAsync(IntegrationEvent event) {
+        try {
+            publish(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 토픽 지정하여 비동기 발행
+     */
+    default CompletableFuture<Void> publishAsync(String topic, IntegrationEvent event) {
+        try {
+            publish(topic, event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package com.lxp.common.resilience;
+
+/**
+ * 벌크헤드 동시 호출 한도 초과
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String name;
+
+    public BulkheadFullException(String name, int maxConcurrentCalls) {
+        super("Bulkhead '" + name + "' is full (max concurrent calls " + maxConcurrentCalls + ")");
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,18 @@
+package com.lxp.common.resilience;
+
+/**
+ * 서킷 브레이커가 열려 호출이 차단됨
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    private final String name;
+
+    public CallNotPermittedException(String name) {
+        super("Circuit breaker '" + name + "' is open");
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,24 @@
+package com.lxp.common.resilience;
+
+/**
+ * 동시 처리 한도 초과
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String name;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String name, int limit) {
+        super("Concurrency limit exceeded for '" + name + "' (limit " + limit + ")");
+        this.name = name;
+        this.limit = limit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
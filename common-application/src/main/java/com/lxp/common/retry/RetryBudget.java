@@ -0,0 +1,19 @@
+package com.lxp.common.retry;
+
+/**
+ * 재시도 예산
+ * 최초 시도마다 재시도 가능량을 적립하고 재시도마다 차감하여,
+ * 장애 시 재시도가 전체 트래픽의 일정 비율을 넘어 부하를 증폭시키지 않도록 제한
+ */
+public interface RetryBudget {
+
+    /**
+     * 최초 시도 기록 (재시도 가능량 적립)
+     */
+    void recordRequest();
+
+    /**
+     * 재시도 1회 허용 여부, 허용되면 가능량 차감
+     */
+    boolean tryAcquireRetry();
+}
@@ -8,10 +8,18 @@ dependencies {
     
     // JPA 의존성
     implementation("org.springframework.boot:spring-boot-starter-data-jpa:3.2.0")
+
+    // Query 결과 캐시
+    implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
+
+    // Outbox 이벤트 직렬화
+    implementation("com.fasterxml.jackson.core:jackson-databind:2.15.3")
+    implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.15.3")
     
     // 테스트 의존성
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.0")
     testImplementation("org.springframework:spring-test:6.1.0")
+    testImplementation("com.h2database:h2:2.2.224")
 }
 
 tasks.test {
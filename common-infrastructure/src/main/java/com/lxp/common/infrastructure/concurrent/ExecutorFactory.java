@@ -0,0 +1,76 @@
+package com.lxp.common.infrastructure.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라이브러리 내부 실행기 생성 유틸리티
+ * Java 21+ 런타임에서는 가상 스레드, 그 외에는 플랫폼 스레드 풀 사용
+ * (Java 17 타깃으로 컴파일되므로 가상 스레드 API는 리플렉션으로 접근)
+ */
+public final class ExecutorFactory {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+    private static final Method IS_VIRTUAL = findMethod(Thread.class, "isVirtual");
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * 가상 스레드 지원 여부
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * 현재 스레드가 가상 스레드인지 여부
+     */
+    public static boolean isCurrentThreadVirtual() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 가상 스레드 실행기 생성, 지원하지 않으면 고정 크기 플랫폼 스레드 풀 생성
+     */
+    public static ExecutorService newVirtualOrFixedThreadPool(String namePrefix, int platformPoolSize) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // 플랫폼 스레드 풀로 대체
+            }
+        }
+        return Executors.newFixedThreadPool(platformPoolSize, namedThreadFactory(namePrefix));
+    }
+
+    /**
+     * 이름이 지정된 데몬 스레드 팩토리
+     */
+    public static ThreadFactory namedThreadFactory(String namePrefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.lxp.common.infrastructure.config;
+
+import com.lxp.common.application.cqrs.QueryBus;
+import com.lxp.common.infrastructure.cqrs.CachingQueryBus;
+import com.lxp.common.infrastructure.cqrs.SimpleQueryBus;
+import com.lxp.common.infrastructure.cqrs.SingleFlightQueryBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Query Bus 구성
+ * 활성화된 데코레이터를 {@link SimpleQueryBus} 앞에 조립하여 기본 QueryBus로 등록
+ * 조립 순서: CachingQueryBus → SingleFlightQueryBus → SimpleQueryBus
+ */
+@Configuration
+public class QueryBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "lxp.cqrs.query-single-flight", name = "enabled", havingValue = "true")
+    public SingleFlightQueryBus singleFlightQueryBus(
+            SimpleQueryBus simpleQueryBus,
+            @Value("${lxp.cqrs.query-single-flight.timeout-millis:5000}") long timeoutMillis,
+            @Value("${lxp.cqrs.query-single-flight.max-waiters:1000}") int maxWaiters) {
+        return new SingleFlightQueryBus(simpleQueryBus, timeoutMillis, maxWaiters);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "lxp.cqrs.query-cache", name = "enabled", havingValue = "true")
+    public CachingQueryBus cachingQueryBus(
+            SimpleQueryBus simpleQueryBus,
+            ObjectProvider<SingleFlightQueryBus> singleFlightQueryBus) {
+        SingleFlightQueryBus singleFlight = singleFlightQueryBus.getIfAvailable();
+        return new CachingQueryBus(singleFlight != null ? singleFlight : simpleQueryBus);
+    }
+
+    @Bean
+    @Primary
+    public QueryBus queryBus(
+            SimpleQueryBus simpleQueryBus,
+            ObjectProvider<SingleFlightQueryBus> singleFlightQueryBus,
+            ObjectProvider<CachingQueryBus> cachingQueryBus) {
+        CachingQueryBus caching = cachingQueryBus.getIfAvailable();
+        if (caching != null) {
+            return caching;
+        }
+        SingleFlightQueryBus singleFlight = singleFlightQueryBus.getIfAvailable();
+        return singleFlight != null ? singleFlight : simpleQueryBus;
+    }
+}
@@ -0,0 +1,30 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 일괄 처리 Read Model 업데이터
+ * {@link ReadModelProjector}가 레인별로 이벤트를 모아 크기 또는 대기 시간 기준으로 한 번에 전달
+ * JDBC 배치 등으로 여러 이벤트를 한 번의 쓰기로 반영할 때 사용
+ *
+ * @param <E> 도메인 이벤트 타입
+ */
+public interface BatchReadModelUpdater<E extends DomainEvent> extends ReadModelUpdater<E> {
+
+    /**
+     * 이벤트 목록을 한 번에 반영
+     * 같은 Aggregate의 이벤트는 발행 순서대로 전달됨
+     */
+    void updateAll(List<E> events);
+
+    /**
+     * 단건 반영
+     * 일괄 반영 실패 시 원인 이벤트를 분리하기 위해서도 사용됨
+     */
+    @Override
+    default void update(E event) {
+        updateAll(List.of(event));
+    }
+}
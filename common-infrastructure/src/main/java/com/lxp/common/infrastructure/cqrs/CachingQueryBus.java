@@ -0,0 +1,187 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.lxp.common.annotaion.CacheableQuery;
+import com.lxp.common.application.cqrs.Query;
+import com.lxp.common.application.cqrs.QueryBus;
+import com.lxp.common.domain.event.DomainEvent;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Query 결과 캐시 Bus (데코레이터)
+ * {@link CacheableQuery}가 붙은 Query만 캐시하며, 나머지는 그대로 위임
+ * 캐시 적중 시 위임 Bus를 호출하지 않으므로 트랜잭션도 열지 않음
+ *
+ * Query 타입마다 크기/TTL 제한이 있는 Caffeine(W-TinyLFU) 캐시를 사용하고,
+ * invalidateOn에 지정한 이벤트가 Read Model에 반영되면 해당 Query 타입의 캐시를 비움
+ *
+ * 호출자 트랜잭션 안의 Query는 커밋되지 않은 변경을 볼 수 있고 캐시된 결과는 그 변경을 반영하지 못하므로
+ * 캐시를 조회하거나 저장하지 않고 그대로 위임
+ */
+public class CachingQueryBus implements QueryBus, ReadModelProjectionListener {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final QueryBus delegate;
+    private final Map<Class<?>, Optional<QueryCache>> caches = new ConcurrentHashMap<>();
+
+    public CachingQueryBus(QueryBus delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Q extends Query<R>, R> R dispatch(Q query) {
+        QueryCache queryCache = cacheFor(query.getClass());
+        if (queryCache == null) {
+            return delegate.dispatch(query);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            queryCache.bypassed.increment();
+            return delegate.dispatch(query);
+        }
+
+        Object cached = queryCache.cache.getIfPresent(query);
+        if (cached != null) {
+            return cached == NULL_VALUE ? null : (R) cached;
+        }
+
+        long generation = queryCache.generation.get();
+        R result = delegate.dispatch(query);
+        if (queryCache.generation.get() == generation) {
+            Object value = result == null ? NULL_VALUE : result;
+            queryCache.cache.put(query, value);
+            // 확인과 저장 사이에 무효화되었으면 방금 저장한 이전 세대 결과를 제거
+            if (queryCache.generation.get() != generation) {
+                queryCache.cache.asMap().remove(query, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read Model 반영 완료 시 관련 Query 캐시 무효화
+     */
+    @Override
+    public void onProjected(DomainEvent event) {
+        for (Optional<QueryCache> queryCache : caches.values()) {
+            queryCache.filter(cache -> cache.invalidatedBy(event.getClass()))
+                    .ifPresent(QueryCache::invalidateAll);
+        }
+    }
+
+    /**
+     * 특정 Query 타입 캐시 전체 무효화
+     */
+    public void invalidate(Class<? extends Query<?>> queryType) {
+        Optional<QueryCache> queryCache = caches.get(queryType);
+        if (queryCache != null) {
+            queryCache.ifPresent(QueryCache::invalidateAll);
+        }
+    }
+
+    /**
+     * Query 타입별 캐시 통계
+     */
+    public List<QueryCacheStats> stats() {
+        return caches.values().stream()
+                .flatMap(Optional::stream)
+                .map(QueryCache::stats)
+                .sorted(Comparator.comparing(QueryCacheStats::queryType))
+                .toList();
+    }
+
+    private QueryCache cacheFor(Class<?> queryType) {
+        Optional<QueryCache> queryCache = caches.get(queryType);
+        if (queryCache == null) {
+            queryCache = caches.computeIfAbsent(queryType, type ->
+                    Optional.ofNullable(type.getAnnotation(CacheableQuery.class))
+                            .map(annotation -> new QueryCache(type, annotation)));
+        }
+        return queryCache.orElse(null);
+    }
+
+    private static final class QueryCache {
+
+        private final Class<?> queryType;
+        private final Class<? extends DomainEvent>[] invalidateOn;
+        private final Cache<Object, Object> cache;
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder invalidations = new LongAdder();
+        private final LongAdder bypassed = new LongAdder();
+
+        QueryCache(Class<?> queryType, CacheableQuery annotation) {
+            this.queryType = queryType;
+            this.invalidateOn = annotation.invalidateOn();
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(annotation.maxSize())
+                    .expireAfterWrite(Duration.ofSeconds(annotation.ttlSeconds()))
+                    .recordStats()
+                    .build();
+        }
+
+        boolean invalidatedBy(Class<?> eventType) {
+            for (Class<? extends DomainEvent> type : invalidateOn) {
+                if (type.isAssignableFrom(eventType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 세대를 먼저 올려, 무효화 전에 조회를 시작한 dispatch가 결과를 남기지 않도록 함
+         */
+        void invalidateAll() {
+            generation.incrementAndGet();
+            invalidations.increment();
+            cache.invalidateAll();
+        }
+
+        QueryCacheStats stats() {
+            CacheStats stats = cache.stats();
+            return new QueryCacheStats(
+                    queryType.getName(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.evictionCount(),
+                    invalidations.sum(),
+                    bypassed.sum(),
+                    cache.estimatedSize()
+            );
+        }
+    }
+
+    /**
+     * Query 타입별 캐시 통계
+     *
+     * @param queryType     Query 클래스 이름
+     * @param hitCount      캐시 적중 수
+     * @param missCount     캐시 미스 수
+     * @param evictionCount 크기/TTL 초과로 제거된 항목 수
+     * @param invalidations 이벤트에 의한 무효화 횟수
+     * @param bypassed      트랜잭션 안이라 캐시를 거치지 않은 수
+     * @param size          현재 항목 수 (추정치)
+     */
+    public record QueryCacheStats(
+            String queryType,
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long invalidations,
+            long bypassed,
+            long size
+    ) {
+    }
+}
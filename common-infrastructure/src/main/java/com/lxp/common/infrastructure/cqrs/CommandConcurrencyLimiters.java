@@ -0,0 +1,59 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.annotaion.AdaptiveConcurrencyLimit;
+import com.lxp.common.infrastructure.resilience.AimdConcurrencyLimiter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AdaptiveConcurrencyLimit}가 붙은 Command 타입별 동시성 제한기
+ * 타입별로 최초 1회만 어노테이션을 확인하고 이후 Map 조회만 수행
+ */
+@Component
+public class CommandConcurrencyLimiters {
+
+    private final Map<Class<?>, Optional<Limit>> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Command 타입의 제한 설정 (어노테이션이 없으면 null)
+     */
+    public Limit limitFor(Class<?> commandType) {
+        Optional<Limit> existing = limits.get(commandType);
+        if (existing == null) {
+            existing = limits.computeIfAbsent(commandType, CommandConcurrencyLimiters::create);
+        }
+        return existing.orElse(null);
+    }
+
+    /**
+     * Command 타입별 제한기 상태 (현재 한도, 처리 중, 거부 수, 지연 시간)
+     */
+    public Map<String, AimdConcurrencyLimiter.Snapshot> snapshot() {
+        Map<String, AimdConcurrencyLimiter.Snapshot> snapshot = new TreeMap<>();
+        limits.forEach((type, limit) -> limit.ifPresent(value -> snapshot.put(type.getName(), value.limiter().snapshot())));
+        return snapshot;
+    }
+
+    private static Optional<Limit> create(Class<?> commandType) {
+        AdaptiveConcurrencyLimit annotation = commandType.getAnnotation(AdaptiveConcurrencyLimit.class);
+        if (annotation == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Limit(new AimdConcurrencyLimiter(
+                annotation.initialLimit(),
+                annotation.minLimit(),
+                annotation.maxLimit(),
+                annotation.latencyTolerance(),
+                annotation.backoffRatio()), annotation.maxWaitMillis()));
+    }
+
+    /**
+     * Command 타입별 제한기와 최대 대기 시간
+     */
+    public record Limit(AimdConcurrencyLimiter limiter, long maxWaitMillis) {
+    }
+}
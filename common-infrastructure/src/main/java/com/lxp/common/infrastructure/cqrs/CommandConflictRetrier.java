@@ -0,0 +1,171 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.annotaion.RetryOnConflict;
+import com.lxp.common.application.cqrs.AggregateCommand;
+import com.lxp.common.application.cqrs.Command;
+import com.lxp.common.infrastructure.metrics.ConflictMetrics;
+import com.lxp.common.infrastructure.retry.ExponentialBackoff;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link RetryOnConflict} Command 충돌 재실행기
+ * 낙관적 락 충돌이 발생하면 영속성 컨텍스트를 비우고 지터를 적용한 지수 백오프 후 새 트랜잭션에서 다시 처리
+ * 호출자 트랜잭션 안에서 실행된 경우에는 재실행해도 같은 트랜잭션이므로 재시도하지 않음
+ * serialize이면 Aggregate별 스트라이프 락으로 같은 Aggregate의 시도를 JVM 안에서 순차 처리 (백오프 대기 중에는 락을 놓음)
+ */
+@Component
+public class CommandConflictRetrier {
+
+    private static final double BACKOFF_MULTIPLIER = 2.0;
+    private static final double BACKOFF_JITTER = 0.5;
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+    private final ConflictMetrics conflictMetrics;
+    private final ReentrantLock[] stripes;
+    private final Map<Class<?>, Optional<Policy>> policies = new ConcurrentHashMap<>();
+
+    public CommandConflictRetrier(
+            ObjectProvider<EntityManagerFactory> entityManagerFactories,
+            ConflictMetrics conflictMetrics,
+            @Value("${lxp.cqrs.command-bus.conflict-retry.lock-stripes:256}") int lockStripes) {
+        if (lockStripes < 1 || Integer.bitCount(lockStripes) != 1) {
+            throw new IllegalArgumentException("Lock stripes must be a power of two: " + lockStripes);
+        }
+        this.entityManagerFactories = entityManagerFactories;
+        this.conflictMetrics = conflictMetrics;
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Command 처리 (충돌 시 재실행)
+     *
+     * @param attempt 트랜잭션 하나에서 Command를 처리하는 작업
+     */
+    public <T> T execute(Command command, Supplier<T> attempt) {
+        Policy policy = policyFor(command.getClass());
+        if (policy == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt.get();
+        }
+
+        String aggregateType = command instanceof AggregateCommand aggregateCommand
+                ? aggregateCommand.aggregateType().getName()
+                : command.getClass().getName();
+        ReentrantLock lock = policy.serialize() && command instanceof AggregateCommand aggregateCommand
+                ? stripeFor(aggregateCommand)
+                : null;
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            conflictMetrics.recordAttempt(aggregateType);
+            try {
+                return attemptLocked(lock, attempt);
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                conflictMetrics.recordConflict(aggregateType);
+                if (attemptNumber >= policy.maxAttempts()) {
+                    conflictMetrics.recordExhausted(aggregateType);
+                    throw e;
+                }
+                clearPersistenceContexts();
+                // 락 밖에서 대기하여 같은 스트라이프의 다른 Aggregate를 막지 않음
+                backoff(policy.backoff().delayMillis(attemptNumber), e);
+            }
+        }
+    }
+
+    /**
+     * 시도 하나만 스트라이프 락 안에서 실행
+     */
+    private static <T> T attemptLocked(ReentrantLock lock, Supplier<T> attempt) {
+        if (lock == null) {
+            return attempt.get();
+        }
+        lock.lock();
+        try {
+            return attempt.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Policy policyFor(Class<?> commandType) {
+        Optional<Policy> existing = policies.get(commandType);
+        if (existing == null) {
+            existing = policies.computeIfAbsent(commandType, CommandConflictRetrier::createPolicy);
+        }
+        return existing.orElse(null);
+    }
+
+    private static Optional<Policy> createPolicy(Class<?> commandType) {
+        RetryOnConflict annotation = commandType.getAnnotation(RetryOnConflict.class);
+        if (annotation == null) {
+            return Optional.empty();
+        }
+        if (annotation.maxAttempts() < 1) {
+            throw new IllegalArgumentException("RetryOnConflict max attempts must be at least 1: " + commandType.getName());
+        }
+        return Optional.of(new Policy(annotation.maxAttempts(), annotation.serialize(), new ExponentialBackoff(
+                annotation.initialBackoffMillis(), BACKOFF_MULTIPLIER, annotation.maxBackoffMillis(), BACKOFF_JITTER)));
+    }
+
+    private ReentrantLock stripeFor(AggregateCommand command) {
+        int hash = Objects.hash(command.aggregateType(), command.aggregateId());
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * 트랜잭션보다 오래 유지되는 EntityManager(Open EntityManager in View 등)에 남은 오래된 엔티티 제거
+     * 다음 시도에서 최신 버전을 다시 읽도록 함
+     */
+    void clearPersistenceContexts() {
+        entityManagerFactories.stream().forEach(factory -> {
+            if (TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder) {
+                holder.getEntityManager().clear();
+            }
+        });
+    }
+
+    private static void backoff(long delayMillis, RuntimeException conflict) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    /**
+     * 원인 중에 낙관적 락 충돌이 있는지 여부
+     */
+    static boolean isConflict(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof OptimisticLockingFailureException || current instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Policy(int maxAttempts, boolean serialize, ExponentialBackoff backoff) {
+    }
+}
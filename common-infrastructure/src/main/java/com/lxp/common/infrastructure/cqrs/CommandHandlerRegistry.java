@@ -0,0 +1,110 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.application.cqrs.Command;
+import com.lxp.common.application.cqrs.CommandHandler;
+import com.lxp.common.application.cqrs.CommandWithResultHandler;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command 핸들러 레지스트리
+ * 컨텍스트 초기화 시점에 모든 핸들러를 Command 타입별로 한 번만 색인
+ * 이후 조회는 불변 Map 읽기만 수행 (리플렉션, 락 없음)
+ */
+@Component
+public class CommandHandlerRegistry implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+
+    @SuppressWarnings("rawtypes")
+    private volatile Map<Class<?>, CommandHandler> handlers;
+    @SuppressWarnings("rawtypes")
+    private volatile Map<Class<?>, CommandWithResultHandler> resultHandlers;
+
+    public CommandHandlerRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * 모든 싱글톤 생성 후 핸들러 색인
+     * 핸들러가 CommandBus를 주입받아도 순환 참조가 생기지 않음
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.handlers = index(CommandHandler.class);
+        this.resultHandlers = index(CommandWithResultHandler.class);
+    }
+
+    /**
+     * Command 타입에 해당하는 핸들러 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Command> CommandHandler<C> getHandler(Class<?> commandClass) {
+        CommandHandler<?> handler = initialized(handlers).get(commandClass);
+        if (handler == null) {
+            throw new IllegalArgumentException("No handler found for command: " + commandClass.getName());
+        }
+        return (CommandHandler<C>) handler;
+    }
+
+    /**
+     * Command 타입에 해당하는 결과 반환 핸들러 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Command, R> CommandWithResultHandler<C, R> getResultHandler(Class<?> commandClass) {
+        CommandWithResultHandler<?, ?> handler = initialized(resultHandlers).get(commandClass);
+        if (handler == null) {
+            throw new IllegalArgumentException("No result handler found for command: " + commandClass.getName());
+        }
+        return (CommandWithResultHandler<C, R>) handler;
+    }
+
+    /**
+     * 등록된 Command 타입 여부
+     */
+    public boolean hasHandler(Class<?> commandClass) {
+        return initialized(handlers).containsKey(commandClass)
+                || initialized(resultHandlers).containsKey(commandClass);
+    }
+
+    private <H> Map<Class<?>, H> index(Class<H> handlerType) {
+        Map<Class<?>, H> indexed = new HashMap<>();
+        Map<String, H> beans = applicationContext.getBeansOfType(handlerType);
+
+        beans.forEach((beanName, handler) -> {
+            Class<?> commandClass = resolveCommandType(beanName, handler, handlerType);
+            H previous = indexed.putIfAbsent(commandClass, handler);
+            if (previous != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate %s for command %s: %s, %s",
+                        handlerType.getSimpleName(), commandClass.getName(),
+                        AopUtils.getTargetClass(previous).getName(), AopUtils.getTargetClass(handler).getName()));
+            }
+        });
+
+        return Map.copyOf(indexed);
+    }
+
+    private Class<?> resolveCommandType(String beanName, Object handler, Class<?> handlerType) {
+        Class<?>[] typeArgs = GenericTypeResolver.resolveTypeArguments(
+                AopUtils.getTargetClass(handler), handlerType);
+        if (typeArgs == null || typeArgs[0] == null) {
+            throw new IllegalStateException(String.format(
+                    "Cannot resolve command type of %s bean '%s'", handlerType.getSimpleName(), beanName));
+        }
+        return typeArgs[0];
+    }
+
+    private static <V> Map<Class<?>, V> initialized(Map<Class<?>, V> map) {
+        if (map == null) {
+            throw new IllegalStateException("Command handler registry is not initialized yet");
+        }
+        return map;
+    }
+}
@@ -0,0 +1,126 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.domain.event.DomainEvent;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단일 스레드 프로젝션 레인
+ * 같은 레인에 들어온 이벤트는 들어온 순서대로 하나의 스레드에서 처리됨
+ * 핸들러가 보류 중인 배치를 가지면 flush 시점까지만 대기하여 대기 시간 기준 flush를 보장
+ */
+final class ProjectionLane {
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int index;
+    private final int capacity;
+    private final BackpressurePolicy policy;
+    private final long blockTimeoutNanos;
+    private final BlockingQueue<DomainEvent> queue;
+    private final Handler handler;
+    private final Thread worker;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile boolean running = true;
+
+    ProjectionLane(String namePrefix, int index, int capacity, BackpressurePolicy policy, long blockTimeoutMillis,
+                   Handler handler) {
+        this.index = index;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.handler = handler;
+        this.worker = new Thread(this::run, namePrefix + "-" + index);
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    /**
+     * 이벤트 적재
+     * BLOCK: 레인이 가득 차면 공간이 생길 때까지 최대 blockTimeoutMillis 동안 호출 스레드 대기
+     * REJECT: 레인이 가득 차면 대기하지 않음
+     *
+     * @throws IllegalStateException 레인이 중지되었거나 가득 차서 적재하지 못한 경우
+     */
+    void submit(DomainEvent event) throws InterruptedException {
+        if (!running) {
+            throw new IllegalStateException("Projection lane " + index + " is stopped");
+        }
+        boolean accepted = policy == BackpressurePolicy.BLOCK
+                ? queue.offer(event, blockTimeoutNanos, TimeUnit.NANOSECONDS)
+                : queue.offer(event);
+        if (!accepted) {
+            rejected.increment();
+            throw new IllegalStateException(String.format(
+                    "Projection lane %d is full (capacity %d, backpressure %s)", index, capacity, policy));
+        }
+    }
+
+    /**
+     * 남은 이벤트와 보류 중인 배치를 처리한 뒤 종료
+     */
+    void stop(long timeoutMillis) throws InterruptedException {
+        running = false;
+        worker.join(timeoutMillis);
+    }
+
+    ReadModelProjector.LaneStats stats() {
+        return new ReadModelProjector.LaneStats(index, queue.size(), processed.sum(), rejected.sum());
+    }
+
+    private void run() {
+        try {
+            while (running || !queue.isEmpty()) {
+                long waitNanos = Math.min(POLL_NANOS, handler.nanosUntilFlush());
+                DomainEvent event = waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (event != null) {
+                    handler.handle(event);
+                    processed.increment();
+                }
+                if (handler.nanosUntilFlush() <= 0) {
+                    handler.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            handler.flush();
+        }
+    }
+
+    /**
+     * 레인 이벤트 처리기
+     * 모든 메서드는 레인 스레드에서만 호출됨
+     */
+    interface Handler {
+
+        void handle(DomainEvent event);
+
+        /**
+         * 다음 flush까지 남은 시간 (보류 중인 배치가 없으면 Long.MAX_VALUE)
+         */
+        long nanosUntilFlush();
+
+        /**
+         * 보류 중인 배치 반영
+         */
+        void flush();
+    }
+
+    /**
+     * 레인이 가득 찼을 때의 처리 방식
+     */
+    enum BackpressurePolicy {
+        BLOCK,
+        REJECT
+    }
+}
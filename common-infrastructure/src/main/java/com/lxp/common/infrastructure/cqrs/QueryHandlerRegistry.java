@@ -0,0 +1,81 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.application.cqrs.QueryHandler;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Query 핸들러 레지스트리
+ * 컨텍스트 초기화 시점에 Query 타입별 {@link QueryInvoker}를 한 번만 생성
+ *
+ * lxp.cqrs.query-bus.specialized-invokers=true 이면 Query 타입마다 {@link QueryInvokers#specialized 전용 호출기}를 생성하여
+ * 핸들러 호출이 QueryHandler 인터페이스의 다형 호출 지점을 거치지 않도록 함
+ */
+@Component
+public class QueryHandlerRegistry implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+    private final boolean specializedInvokers;
+
+    private volatile Map<Class<?>, QueryInvoker> invokers;
+
+    public QueryHandlerRegistry(
+            ApplicationContext applicationContext,
+            @Value("${lxp.cqrs.query-bus.specialized-invokers:false}") boolean specializedInvokers) {
+        this.applicationContext = applicationContext;
+        this.specializedInvokers = specializedInvokers;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void afterSingletonsInstantiated() {
+        Map<Class<?>, QueryHandler> handlers = new HashMap<>();
+        Map<String, QueryHandler> beans = applicationContext.getBeansOfType(QueryHandler.class);
+
+        beans.forEach((beanName, handler) -> {
+            Class<?>[] typeArgs = GenericTypeResolver.resolveTypeArguments(
+                    AopUtils.getTargetClass(handler), QueryHandler.class);
+            if (typeArgs == null || typeArgs[0] == null) {
+                throw new IllegalStateException(
+                        "Cannot resolve query type of QueryHandler bean '" + beanName + "'");
+            }
+
+            Class<?> queryClass = typeArgs[0];
+            QueryHandler previous = handlers.putIfAbsent(queryClass, handler);
+            if (previous != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate QueryHandler for query %s: %s, %s", queryClass.getName(),
+                        AopUtils.getTargetClass(previous).getName(), AopUtils.getTargetClass(handler).getName()));
+            }
+        });
+
+        Map<Class<?>, QueryInvoker> indexed = new HashMap<>();
+        handlers.forEach((queryClass, handler) -> indexed.put(queryClass, specializedInvokers
+                ? QueryInvokers.specialized(handler, queryClass)
+                : QueryInvokers.generic(handler)));
+        this.invokers = Map.copyOf(indexed);
+    }
+
+    /**
+     * Query 타입에 해당하는 호출기 조회
+     */
+    public QueryInvoker getInvoker(Class<?> queryClass) {
+        Map<Class<?>, QueryInvoker> current = invokers;
+        if (current == null) {
+            throw new IllegalStateException("Query handler registry is not initialized yet");
+        }
+
+        QueryInvoker invoker = current.get(queryClass);
+        if (invoker == null) {
+            throw new IllegalArgumentException("No handler found for query: " + queryClass.getName());
+        }
+        return invoker;
+    }
+}
@@ -0,0 +1,14 @@
+package com.lxp.common.infrastructure.cqrs;
+
+/**
+ * Query 타입별 핸들러 호출기
+ * {@link QueryHandlerRegistry}가 시작 시점에 Query 타입마다 하나씩 생성
+ */
+@FunctionalInterface
+public interface QueryInvoker {
+
+    /**
+     * 핸들러 호출 후 결과 반환
+     */
+    Object invoke(Object query);
+}
@@ -0,0 +1,78 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.application.cqrs.Query;
+import com.lxp.common.application.cqrs.QueryHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * QueryInvoker 생성 유틸리티
+ */
+final class QueryInvokers {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInvokers.class);
+
+    private QueryInvokers() {
+    }
+
+    /**
+     * QueryHandler.handle 인터페이스 호출을 그대로 사용하는 호출기
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static QueryInvoker generic(QueryHandler<?, ?> handler) {
+        QueryHandler rawHandler = handler;
+        return query -> rawHandler.handle((Query) query);
+    }
+
+    /**
+     * 핸들러 클래스의 handle(Q) 메소드를 직접 호출하는 전용 호출기
+     * LambdaMetafactory로 Query 타입마다 별도 클래스를 생성하므로 호출기 안의 handle 호출은 대상이 하나뿐인 단형(monomorphic) 호출이 되어
+     * 인터페이스 브리지 메소드를 거치지 않고 인라인될 수 있음
+     * JDK 동적 프록시이거나 전용 호출기를 만들 수 없으면 경고를 남기고 generic 호출기로 대체
+     */
+    static QueryInvoker specialized(QueryHandler<?, ?> handler, Class<?> queryClass) {
+        Class<?> handlerClass = ClassUtils.getUserClass(handler);
+        if (Proxy.isProxyClass(handler.getClass()) || !handlerClass.isInstance(handler)) {
+            return generic(handler);
+        }
+
+        MethodHandle factory;
+        try {
+            Method method = handlerClass.getMethod("handle", queryClass);
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(handlerClass, MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    MethodType.methodType(QueryInvoker.class, handlerClass),
+                    MethodType.methodType(Object.class, Object.class),
+                    target,
+                    MethodType.methodType(method.getReturnType(), queryClass)
+            );
+            factory = callSite.getTarget();
+        } catch (LambdaConversionException | ReflectiveOperationException e) {
+            log.warn("Falling back to generic invoker for query {} handled by {}: {}",
+                    queryClass.getName(), handlerClass.getName(), e.toString());
+            return generic(handler);
+        }
+
+        try {
+            return (QueryInvoker) factory.invoke(handler);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create invoker for query " + queryClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.domain.event.DomainEvent;
+
+/**
+ * Read Model 반영 완료 리스너
+ * {@link ReadModelProjector}가 이벤트를 Read Model에 반영한 직후 호출
+ */
+public interface ReadModelProjectionListener {
+
+    /**
+     * 이벤트 반영 완료
+     */
+    void onProjected(DomainEvent event);
+}
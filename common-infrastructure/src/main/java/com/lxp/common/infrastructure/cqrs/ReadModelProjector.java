@@ -1,41 +1,265 @@
 package com.lxp.common.infrastructure.cqrs;
 
 import com.lxp.common.domain.event.DomainEvent;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Read Model Projector
  * 도메인 이벤트를 수신하여 적절한 ReadModelUpdater로 라우팅
+ *
+ * 이벤트는 aggregateId 해시로 N개의 단일 스레드 레인에 분배되어
+ * 서로 다른 Aggregate의 이벤트는 병렬로, 같은 Aggregate의 이벤트는 발행 순서대로 반영됨
+ *
+ * 하나의 이벤트는 supportedEventType이 이벤트 타입 또는 그 상위 타입(인터페이스 포함)인 모든 Updater로 전달되며,
+ * 이벤트 클래스별 전달 대상 목록은 최초 1회 계산 후 캐시됨
+ * 대상 Updater가 여럿이면 서로 독립적으로 동시에 실행하고, 모두 끝난 뒤 다음 이벤트를 처리
+ *
+ * {@link BatchReadModelUpdater}로 가는 이벤트는 레인별로 모아 batchSize 또는 batchLingerMillis 기준으로 일괄 반영하며,
+ * 해당 이벤트의 반영 완료 리스너는 배치가 반영된 뒤 호출됨
  */
 @Component
-public class ReadModelProjector {
+public class ReadModelProjector implements DisposableBean {
 
-    private final Map<Class<?>, ReadModelUpdater<?>> updaterMap = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(ReadModelProjector.class);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
 
-    public ReadModelProjector(List<ReadModelUpdater<?>> updaters) {
-        updaters.forEach(updater -> 
-                updaterMap.put(updater.supportedEventType(), updater));
+    private final List<ReadModelUpdater<?>> updaters;
+    private final Map<Class<?>, Route> routes = new ConcurrentHashMap<>();
+    private final List<ReadModelProjectionListener> projectionListeners;
+    private final ProjectionLane[] lanes;
+    private final ExecutorService fanOutExecutor;
+    private final int batchSize;
+    private final long batchLingerNanos;
+
+    public ReadModelProjector(
+            List<ReadModelUpdater<?>> updaters,
+            List<ReadModelProjectionListener> projectionListeners,
+            @Value("${lxp.cqrs.projector.partitions:0}") int partitions,
+            @Value("${lxp.cqrs.projector.lane-capacity:1024}") int laneCapacity,
+            @Value("${lxp.cqrs.projector.backpressure:BLOCK}") String backpressure,
+            @Value("${lxp.cqrs.projector.block-timeout-millis:5000}") long blockTimeoutMillis,
+            @Value("${lxp.cqrs.projector.batch-size:256}") int batchSize,
+            @Value("${lxp.cqrs.projector.batch-linger-millis:50}") long batchLingerMillis) {
+        this.updaters = List.copyOf(updaters);
+        this.updaters.forEach(updater -> routeFor(updater.supportedEventType()));
+        this.projectionListeners = List.copyOf(projectionListeners);
+
+        int laneCount = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        if (laneCapacity < 1) {
+            throw new IllegalArgumentException("Lane capacity must be at least 1");
+        }
+        if (blockTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Block timeout must not be negative");
+        }
+        if (batchSize < 1 || batchLingerMillis < 0) {
+            throw new IllegalArgumentException("Batch size must be at least 1 and linger must not be negative");
+        }
+        this.batchSize = batchSize;
+        this.batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(batchLingerMillis);
+        ProjectionLane.BackpressurePolicy policy = ProjectionLane.BackpressurePolicy.valueOf(backpressure.toUpperCase());
+        this.fanOutExecutor = ExecutorFactory.newVirtualOrFixedThreadPool("read-model-updater", laneCount);
+        this.lanes = new ProjectionLane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ProjectionLane(
+                    "read-model-projector", i, laneCapacity, policy, blockTimeoutMillis, new LaneProjection());
+            lanes[i].start();
+        }
     }
 
     /**
-     * 도메인 이벤트 수신 및 처리
-     * 비동기로 처리하여 Command 트랜잭션에 영향 없음
+     * 도메인 이벤트 수신 및 레인 적재
+     * 반영은 레인 스레드에서 수행되어 Command 트랜잭션에 영향 없음
+     * 레인이 가득 차서 적재하지 못하면 IllegalStateException을 발행 측에 전달함 (해당 이벤트는 반영되지 않음)
      */
-    @Async
     @EventListener
-    @SuppressWarnings("unchecked")
     public void onDomainEvent(DomainEvent event) {
-        ReadModelUpdater<DomainEvent> updater = 
-                (ReadModelUpdater<DomainEvent>) updaterMap.get(event.getClass());
-        
-        if (updater != null) {
-            updater.update(event);
+        try {
+            laneFor(event.getAggregateId()).submit(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enqueueing domain event: " + event, e);
+        }
+    }
+
+    /**
+     * 레인별 처리 현황
+     */
+    public List<LaneStats> laneStats() {
+        return Arrays.stream(lanes)
+                .map(ProjectionLane::stats)
+                .toList();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ProjectionLane lane : lanes) {
+            lane.stop(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        fanOutExecutor.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void update(ReadModelUpdater<?> updater, DomainEvent event) {
+        try {
+            ((ReadModelUpdater<DomainEvent>) updater).update(event);
+        } catch (RuntimeException e) {
+            log.error("Read model updater {} failed for domain event: {}", updater, event, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateAll(BatchReadModelUpdater<?> updater, List<DomainEvent> events) {
+        try {
+            ((BatchReadModelUpdater<DomainEvent>) updater).updateAll(events);
+        } catch (RuntimeException e) {
+            // 실패 원인 이벤트만 제외되도록 단건으로 재반영
+            log.warn("Batch read model updater {} failed for {} events, retrying one by one", updater, events.size(), e);
+            events.forEach(event -> update(updater, event));
+        }
+    }
+
+    private void notifyListeners(DomainEvent event) {
+        for (ReadModelProjectionListener listener : projectionListeners) {
+            try {
+                listener.onProjected(event);
+            } catch (RuntimeException e) {
+                log.error("Projection listener {} failed for domain event: {}", listener, event, e);
+            }
+        }
+    }
+
+    /**
+     * 작업이 둘 이상이면 첫 작업은 호출 스레드에서, 나머지는 fanOutExecutor에서 동시에 실행하고 모두 기다림
+     */
+    private void runAll(List<Runnable> tasks) {
+        if (tasks.size() == 1) {
+            tasks.get(0).run();
+        } else if (tasks.size() > 1) {
+            CompletableFuture<?>[] others = new CompletableFuture<?>[tasks.size() - 1];
+            for (int i = 1; i < tasks.size(); i++) {
+                others[i - 1] = CompletableFuture.runAsync(tasks.get(i), fanOutExecutor);
+            }
+            tasks.get(0).run();
+            CompletableFuture.allOf(others).join();
+        }
+    }
+
+    private Route routeFor(Class<?> eventType) {
+        Route route = routes.get(eventType);
+        if (route == null) {
+            route = routes.computeIfAbsent(eventType, type -> {
+                List<ReadModelUpdater<?>> immediate = new ArrayList<>();
+                List<BatchReadModelUpdater<?>> batched = new ArrayList<>();
+                for (ReadModelUpdater<?> updater : updaters) {
+                    if (!updater.supportedEventType().isAssignableFrom(type)) {
+                        continue;
+                    }
+                    if (updater instanceof BatchReadModelUpdater<?> batchUpdater) {
+                        batched.add(batchUpdater);
+                    } else {
+                        immediate.add(updater);
+                    }
+                }
+                return new Route(List.copyOf(immediate), List.copyOf(batched));
+            });
+        }
+        return route;
+    }
+
+    private ProjectionLane laneFor(String aggregateId) {
+        int hash = Objects.hashCode(aggregateId);
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    /**
+     * 레인별 처리 현황
+     *
+     * @param lane      레인 번호
+     * @param queued    처리 대기 중인 이벤트 수
+     * @param processed 처리 완료 이벤트 수
+     * @param rejected  레인이 가득 차서 거부된 이벤트 수
+     */
+    public record LaneStats(int lane, int queued, long processed, long rejected) {
+    }
+
+    /**
+     * 이벤트 클래스별 전달 대상
+     */
+    private record Route(List<ReadModelUpdater<?>> immediate, List<BatchReadModelUpdater<?>> batched) {
+    }
+
+    /**
+     * 레인별 이벤트 반영 상태
+     * 레인 스레드에서만 접근하므로 동기화하지 않음
+     */
+    private final class LaneProjection implements ProjectionLane.Handler {
+
+        private final Map<BatchReadModelUpdater<?>, List<DomainEvent>> buffers = new LinkedHashMap<>();
+        private final List<DomainEvent> unnotified = new ArrayList<>();
+        private long flushDeadline;
+
+        @Override
+        public void handle(DomainEvent event) {
+            Route route = routeFor(event.getClass());
+            runAll(route.immediate().stream()
+                    .<Runnable>map(updater -> () -> update(updater, event))
+                    .toList());
+
+            if (route.batched().isEmpty() && unnotified.isEmpty()) {
+                notifyListeners(event);
+                return;
+            }
+            // 리스너 호출 순서를 유지하기 위해 보류 중인 배치가 있으면 함께 대기
+            if (unnotified.isEmpty()) {
+                flushDeadline = System.nanoTime() + batchLingerNanos;
+            }
+            unnotified.add(event);
+
+            boolean full = false;
+            for (BatchReadModelUpdater<?> updater : route.batched()) {
+                List<DomainEvent> buffer = buffers.computeIfAbsent(updater, key -> new ArrayList<>());
+                buffer.add(event);
+                full |= buffer.size() >= batchSize;
+            }
+            if (full) {
+                flush();
+            }
+        }
+
+        @Override
+        public long nanosUntilFlush() {
+            return unnotified.isEmpty() ? Long.MAX_VALUE : flushDeadline - System.nanoTime();
+        }
+
+        @Override
+        public void flush() {
+            if (unnotified.isEmpty()) {
+                return;
+            }
+            runAll(buffers.entrySet().stream()
+                    .<Runnable>map(entry -> () -> updateAll(entry.getKey(), entry.getValue()))
+                    .toList());
+            buffers.clear();
+
+            unnotified.forEach(ReadModelProjector.this::notifyListeners);
+            unnotified.clear();
         }
     }
 }
@@ -0,0 +1,66 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.application.cqrs.AsyncCommandBus;
+import com.lxp.common.application.cqrs.Command;
+import com.lxp.common.application.cqrs.CommandBus;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Spring 기반 비동기 Command Bus 구현체
+ * 실행기 스레드에서 {@link CommandBus}를 호출하므로 트랜잭션은 실행 스레드에 바인딩됨
+ *
+ * "commandBusExecutor" 이름의 Executor Bean이 있으면 사용하고,
+ * 없으면 가상 스레드(Java 21+) 또는 플랫폼 스레드 풀을 생성
+ */
+@Component
+public class SimpleAsyncCommandBus implements AsyncCommandBus, DisposableBean {
+
+    public static final String EXECUTOR_BEAN_NAME = "commandBusExecutor";
+
+    private final CommandBus commandBus;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    public SimpleAsyncCommandBus(
+            CommandBus commandBus,
+            @Qualifier(EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executorProvider,
+            @Value("${lxp.cqrs.async-command-bus.pool-size:0}") int poolSize) {
+        this.commandBus = commandBus;
+
+        Executor configured = executorProvider.getIfAvailable();
+        if (configured != null) {
+            this.executor = configured;
+            this.ownedExecutor = null;
+        } else {
+            int platformPoolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+            this.ownedExecutor = ExecutorFactory.newVirtualOrFixedThreadPool("async-command-bus", platformPoolSize);
+            this.executor = ownedExecutor;
+        }
+    }
+
+    @Override
+    public <C extends Command> CompletableFuture<Void> dispatch(C command) {
+        return CompletableFuture.runAsync(() -> commandBus.dispatch(command), executor);
+    }
+
+    @Override
+    public <C extends Command, R> CompletableFuture<R> dispatchWithResult(C command) {
+        return CompletableFuture.supplyAsync(() -> commandBus.<C, R>dispatchWithResult(command), executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
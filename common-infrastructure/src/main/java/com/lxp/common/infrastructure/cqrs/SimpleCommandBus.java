@@ -1,80 +1,282 @@
 package com.lxp.common.infrastructure.cqrs;
 
 import com.lxp.common.application.cqrs.Command;
+import com.lxp.common.application.cqrs.CommandBatchResult;
 import com.lxp.common.application.cqrs.CommandBus;
 import com.lxp.common.application.cqrs.CommandHandler;
 import com.lxp.common.application.cqrs.CommandWithResultHandler;
-import org.springframework.context.ApplicationContext;
-import org.springframework.core.GenericTypeResolver;
+import com.lxp.common.infrastructure.metrics.BusMetrics;
+import com.lxp.common.infrastructure.persistence.SavepointAwareSynchronization;
+import com.lxp.common.infrastructure.resilience.AimdConcurrencyLimiter;
+import com.lxp.common.resilience.ConcurrencyLimitExceededException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.NestedTransactionNotSupportedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Spring 기반 Command Bus 구현체
+ * 핸들러 조회는 시작 시점에 색인된 {@link CommandHandlerRegistry}를 사용
+ * 핸들러 실행마다 {@link BusMetrics}에 처리 시간과 성공 여부를 기록
+ * {@link com.lxp.common.annotaion.RetryOnConflict} Command는 낙관적 락 충돌 시 새 트랜잭션에서 다시 처리
+ * {@link com.lxp.common.annotaion.AdaptiveConcurrencyLimit} Command는 시도(트랜잭션)마다 시작 전에 동시 처리 자리를 확보하므로
+ * 충돌 재실행 사이의 백오프 대기는 자리를 점유하지 않고 지연 시간에도 포함되지 않음
  */
 @Component
 public class SimpleCommandBus implements CommandBus {
 
-    private final ApplicationContext applicationContext;
-    private final Map<Class<?>, CommandHandler<?>> handlerCache = new ConcurrentHashMap<>();
-    private final Map<Class<?>, CommandWithResultHandler<?, ?>> resultHandlerCache = new ConcurrentHashMap<>();
+    private final CommandHandlerRegistry handlerRegistry;
+    private final ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+    private final BusMetrics busMetrics;
+    private final CommandConcurrencyLimiters concurrencyLimiters;
+    private final CommandConflictRetrier conflictRetrier;
+    private final int batchChunkSize;
+    private volatile TransactionTemplate transactionTemplate;
 
-    public SimpleCommandBus(ApplicationContext applicationContext) {
-        this.applicationContext = applicationContext;
+    public SimpleCommandBus(
+            CommandHandlerRegistry handlerRegistry,
+            ObjectProvider<PlatformTransactionManager> transactionManagerProvider,
+            BusMetrics busMetrics,
+            CommandConcurrencyLimiters concurrencyLimiters,
+            CommandConflictRetrier conflictRetrier,
+            @Value("${lxp.cqrs.command-bus.batch-chunk-size:100}") int batchChunkSize) {
+        if (batchChunkSize < 1) {
+            throw new IllegalArgumentException("Batch chunk size must be at least 1");
+        }
+        this.handlerRegistry = handlerRegistry;
+        this.transactionManagerProvider = transactionManagerProvider;
+        this.busMetrics = busMetrics;
+        this.concurrencyLimiters = concurrencyLimiters;
+        this.conflictRetrier = conflictRetrier;
+        this.batchChunkSize = batchChunkSize;
     }
 
     @Override
-    @Transactional
-    @SuppressWarnings("unchecked")
     public <C extends Command> void dispatch(C command) {
-        CommandHandler<C> handler = (CommandHandler<C>) handlerCache.computeIfAbsent(
-                command.getClass(),
-                this::findHandler
-        );
-        handler.handle(command);
+        CommandHandler<C> handler = handlerRegistry.getHandler(command.getClass());
+        conflictRetrier.execute(command, () -> limited(command.getClass(), () -> {
+            transactionTemplate().executeWithoutResult(status -> handle(handler, command));
+            return null;
+        }));
     }
 
     @Override
-    @Transactional
-    @SuppressWarnings("unchecked")
     public <C extends Command, R> R dispatchWithResult(C command) {
-        CommandWithResultHandler<C, R> handler = (CommandWithResultHandler<C, R>) resultHandlerCache.computeIfAbsent(
-                command.getClass(),
-                this::findResultHandler
-        );
-        return handler.handle(command);
+        CommandWithResultHandler<C, R> handler = handlerRegistry.getResultHandler(command.getClass());
+        return conflictRetrier.execute(command, () -> limited(command.getClass(), () -> transactionTemplate().execute(status -> {
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                R result = handler.handle(command);
+                success = true;
+                return result;
+            } finally {
+                busMetrics.recordCommand(command.getClass(), System.nanoTime() - start, success);
+            }
+        })));
     }
 
-    @SuppressWarnings("rawtypes")
-    private CommandHandler<?> findHandler(Class<?> commandClass) {
-        Map<String, CommandHandler> handlers = applicationContext.getBeansOfType(CommandHandler.class);
-
-        return handlers.values().stream()
-                .filter(handler -> {
-                    Class<?>[] typeArgs = GenericTypeResolver.resolveTypeArguments(
-                            handler.getClass(), CommandHandler.class);
-                    return typeArgs != null && typeArgs[0].equals(commandClass);
-                })
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "No handler found for command: " + commandClass.getName()));
+    /**
+     * Command 일괄 전송
+     * 요청 순서를 유지하며 batchChunkSize 단위로 하나의 트랜잭션에서 처리
+     * Command마다 세이브포인트를 두어 실패한 Command만 되돌리고 다음 Command부터 이어서 처리하므로
+     * 커밋된 Command를 다시 실행하지 않음
+     * 청크 트랜잭션은 호출자 트랜잭션과 분리되어(REQUIRES_NEW) 청크 단위로 커밋됨
+     */
+    @Override
+    public <C extends Command> CommandBatchResult<C> dispatchAll(List<C> commands) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManagerProvider.getObject());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Map<Class<?>, CommandHandler<C>> handlers = new HashMap<>();
+        List<CommandBatchResult.Item<C>> results = new ArrayList<>(commands.size());
+
+        for (int start = 0; start < commands.size(); start += batchChunkSize) {
+            List<BatchEntry<C>> chunk = new ArrayList<>();
+            for (int i = start; i < Math.min(start + batchChunkSize, commands.size()); i++) {
+                C command = commands.get(i);
+                try {
+                    CommandHandler<C> handler = handlers.computeIfAbsent(
+                            command.getClass(), handlerRegistry::getHandler);
+                    chunk.add(new BatchEntry<>(i, command, handler));
+                } catch (RuntimeException e) {
+                    results.add(CommandBatchResult.Item.failure(i, command, e));
+                }
+            }
+            results.addAll(dispatchChunk(transactionTemplate, chunk));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        return new CommandBatchResult<>(results);
+    }
+
+    /**
+     * 청크 하나를 트랜잭션 단위로 처리
+     * Command의 변경은 세이브포인트 안에서 flush하고, 실패하면 세이브포인트로 되돌린 뒤 영속성 컨텍스트를 비우고 다음 Command로 진행
+     * 세이브포인트 생성/복구/해제는 {@link SavepointAwareSynchronization}에 알려 실패한 Command가 등록한 Outbox 이벤트도 버림
+     *
+     * 실패한 Command가 트랜잭션 전체를 rollback-only로 표시한 경우(@Transactional 참여자의 예외, flush 중 PersistenceException 등)
+     * 세이브포인트 복구로는 표시가 지워지지 않으므로 그 Command에서 멈추고 트랜잭션을 조용히 롤백함
+     * 이 경우 함께 롤백된 앞선 성공 Command와 아직 처리하지 않은 뒤의 Command만 새 트랜잭션에서 이어서 처리하고
+     * 이미 실패로 기록된 Command는 다시 실행하지 않음
+     * 세이브포인트를 지원하지 않는 트랜잭션 매니저이면 남은 Command를 Command별 트랜잭션으로 처리하고
+     * 커밋 자체가 실패하면 그 트랜잭션의 성공 Command를 커밋 예외로 실패 처리함(재실행하지 않음)
+     */
+    private <C extends Command> List<CommandBatchResult.Item<C>> dispatchChunk(
+            TransactionTemplate transactionTemplate, List<BatchEntry<C>> chunk) {
+        List<CommandBatchResult.Item<C>> results = new ArrayList<>(chunk.size());
+        List<BatchEntry<C>> pending = chunk;
+        while (!pending.isEmpty()) {
+            ChunkRun<C> run = new ChunkRun<>();
+            List<BatchEntry<C>> entries = pending;
+            try {
+                transactionTemplate.executeWithoutResult(status -> run.execute(status, entries));
+            } catch (NestedTransactionNotSupportedException e) {
+                results.addAll(dispatchEach(transactionTemplate, entries));
+                return results;
+            } catch (RuntimeException e) {
+                for (BatchEntry<C> entry : run.succeeded) {
+                    results.add(CommandBatchResult.Item.failure(entry.index(), entry.command(), e));
+                }
+                results.addAll(run.failures);
+                return results;
+            }
+            results.addAll(run.failures);
+            if (run.doomedAt < 0) {
+                for (BatchEntry<C> entry : run.succeeded) {
+                    results.add(CommandBatchResult.Item.success(entry.index(), entry.command()));
+                }
+                return results;
+            }
+            // 트랜잭션 전체가 롤백되었으므로 앞선 성공 Command와 실패 지점 이후 Command를 다시 처리
+            List<BatchEntry<C>> next = new ArrayList<>(run.succeeded);
+            next.addAll(entries.subList(run.doomedAt + 1, entries.size()));
+            pending = next;
+        }
+        return results;
+    }
+
+    private <C extends Command> List<CommandBatchResult.Item<C>> dispatchEach(
+            TransactionTemplate transactionTemplate, List<BatchEntry<C>> entries) {
+        List<CommandBatchResult.Item<C>> results = new ArrayList<>(entries.size());
+        for (BatchEntry<C> entry : entries) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> handle(entry.handler(), entry.command()));
+                results.add(CommandBatchResult.Item.success(entry.index(), entry.command()));
+            } catch (RuntimeException e) {
+                results.add(CommandBatchResult.Item.failure(entry.index(), entry.command(), e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 동시성 제한 적용
+     * 제한 대상이 아니면 바로 실행하고, 자리를 얻지 못하면 {@link ConcurrencyLimitExceededException} 발생
+     * 성공 시 지연 시간을 반영하고, 일시적 데이터 접근 실패(타임아웃, 락 획득 실패 등)는 과부하로 보고 한도를 줄임
+     * 낙관적 락 충돌은 부하와 무관한 경합이므로 반영하지 않음
+     */
+    private <T> T limited(Class<?> commandType, Supplier<T> action) {
+        CommandConcurrencyLimiters.Limit limit = concurrencyLimiters.limitFor(commandType);
+        if (limit == null) {
+            return action.get();
+        }
+        AimdConcurrencyLimiter limiter = limit.limiter();
+        if (!limiter.tryAcquire(limit.maxWaitMillis())) {
+            throw new ConcurrencyLimitExceededException(commandType.getName(), limiter.limit());
+        }
+        long start = System.nanoTime();
+        AimdConcurrencyLimiter.Outcome outcome = AimdConcurrencyLimiter.Outcome.IGNORED;
+        try {
+            T result = action.get();
+            outcome = AimdConcurrencyLimiter.Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            if (!CommandConflictRetrier.isConflict(e) && e instanceof TransientDataAccessException) {
+                outcome = AimdConcurrencyLimiter.Outcome.DROPPED;
+            }
+            throw e;
+        } finally {
+            limiter.release(start, outcome);
+        }
     }
 
-    @SuppressWarnings("rawtypes")
-    private CommandWithResultHandler<?, ?> findResultHandler(Class<?> commandClass) {
-        Map<String, CommandWithResultHandler> handlers = applicationContext.getBeansOfType(CommandWithResultHandler.class);
-
-        return handlers.values().stream()
-                .filter(handler -> {
-                    Class<?>[] typeArgs = GenericTypeResolver.resolveTypeArguments(
-                            handler.getClass(), CommandWithResultHandler.class);
-                    return typeArgs != null && typeArgs[0].equals(commandClass);
-                })
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "No result handler found for command: " + commandClass.getName()));
+    private TransactionTemplate transactionTemplate() {
+        TransactionTemplate template = transactionTemplate;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManagerProvider.getObject());
+            transactionTemplate = template;
+        }
+        return template;
+    }
+
+    private <C extends Command> void handle(CommandHandler<C> handler, C command) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            handler.handle(command);
+            success = true;
+        } finally {
+            busMetrics.recordCommand(command.getClass(), System.nanoTime() - start, success);
+        }
+    }
+
+    private record BatchEntry<C extends Command>(int index, C command, CommandHandler<C> handler) {
+    }
+
+    /**
+     * 청크 트랜잭션 한 번의 처리 결과
+     * doomedAt은 트랜잭션을 rollback-only로 만든 Command의 위치이며, 없으면 -1
+     */
+    private final class ChunkRun<C extends Command> {
+
+        private final List<BatchEntry<C>> succeeded = new ArrayList<>();
+        private final List<CommandBatchResult.Item<C>> failures = new ArrayList<>();
+        private int doomedAt = -1;
+
+        void execute(TransactionStatus status, List<BatchEntry<C>> entries) {
+            for (int i = 0; i < entries.size(); i++) {
+                BatchEntry<C> entry = entries.get(i);
+                Object savepoint = status.createSavepoint();
+                SavepointAwareSynchronization.notifySavepoint(savepoint);
+                RuntimeException failure = null;
+                try {
+                    handle(entry.handler(), entry.command());
+                    status.flush();
+                    status.releaseSavepoint(savepoint);
+                    SavepointAwareSynchronization.notifySavepointRelease(savepoint);
+                } catch (RuntimeException e) {
+                    failure = e;
+                    status.rollbackToSavepoint(savepoint);
+                    SavepointAwareSynchronization.notifySavepointRollback(savepoint);
+                    conflictRetrier.clearPersistenceContexts();
+                }
+                if (status.isRollbackOnly()) {
+                    failures.add(CommandBatchResult.Item.failure(entry.index(), entry.command(), failure != null
+                            ? failure
+                            : new UnexpectedRollbackException("Command marked the batch transaction as rollback-only")));
+                    doomedAt = i;
+                    // 전역 rollback-only 표시로 커밋 시 UnexpectedRollbackException이 나지 않도록 명시적으로 롤백
+                    status.setRollbackOnly();
+                    return;
+                }
+                if (failure != null) {
+                    failures.add(CommandBatchResult.Item.failure(entry.index(), entry.command(), failure));
+                } else {
+                    succeeded.add(entry);
+                }
+            }
+        }
     }
 }
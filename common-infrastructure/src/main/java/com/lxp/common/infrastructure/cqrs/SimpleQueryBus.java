@@ -2,51 +2,39 @@ package com.lxp.common.infrastructure.cqrs;
 
 import com.lxp.common.application.cqrs.Query;
 import com.lxp.common.application.cqrs.QueryBus;
-import com.lxp.common.application.cqrs.QueryHandler;
-import org.springframework.context.ApplicationContext;
-import org.springframework.core.GenericTypeResolver;
+import com.lxp.common.infrastructure.metrics.BusMetrics;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Spring 기반 Query Bus 구현체
+ * 핸들러 호출은 시작 시점에 생성된 {@link QueryInvoker}를 사용
+ * 핸들러 실행마다 {@link BusMetrics}에 처리 시간과 성공 여부를 기록
  */
 @Component
 public class SimpleQueryBus implements QueryBus {
 
-    private final ApplicationContext applicationContext;
-    private final Map<Class<?>, QueryHandler<?, ?>> handlerCache = new ConcurrentHashMap<>();
+    private final QueryHandlerRegistry handlerRegistry;
+    private final BusMetrics busMetrics;
 
-    public SimpleQueryBus(ApplicationContext applicationContext) {
-        this.applicationContext = applicationContext;
+    public SimpleQueryBus(QueryHandlerRegistry handlerRegistry, BusMetrics busMetrics) {
+        this.handlerRegistry = handlerRegistry;
+        this.busMetrics = busMetrics;
     }
 
     @Override
     @Transactional(readOnly = true)
     @SuppressWarnings("unchecked")
     public <Q extends Query<R>, R> R dispatch(Q query) {
-        QueryHandler<Q, R> handler = (QueryHandler<Q, R>) handlerCache.computeIfAbsent(
-                query.getClass(),
-                this::findHandler
-        );
-        return handler.handle(query);
-    }
-
-    @SuppressWarnings("rawtypes")
-    private QueryHandler<?, ?> findHandler(Class<?> queryClass) {
-        Map<String, QueryHandler> handlers = applicationContext.getBeansOfType(QueryHandler.class);
-
-        return handlers.values().stream()
-                .filter(handler -> {
-                    Class<?>[] typeArgs = GenericTypeResolver.resolveTypeArguments(
-                            handler.getClass(), QueryHandler.class);
-                    return typeArgs != null && typeArgs[0].equals(queryClass);
-                })
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "No handler found for query: " + queryClass.getName()));
+        QueryInvoker invoker = handlerRegistry.getInvoker(query.getClass());
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            R result = (R) invoker.invoke(query);
+            success = true;
+            return result;
+        } finally {
+            busMetrics.recordQuery(query.getClass(), System.nanoTime() - start, success);
+        }
     }
 }
@@ -0,0 +1,157 @@
+package com.lxp.common.infrastructure.cqrs;
+
+import com.lxp.common.application.cqrs.Query;
+import com.lxp.common.application.cqrs.QueryBus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동일 Query 요청 병합 Bus (데코레이터, single-flight)
+ * 같은(equals) Query가 동시에 전송되면 첫 요청만 위임 Bus를 실행하고 나머지는 그 결과를 공유
+ * 실행 중 발생한 예외는 대기 중인 모든 요청에 전파됨
+ *
+ * 대기 요청 수가 maxWaiters를 넘으면 초과 요청은 병합 없이 직접 실행하고,
+ * timeoutMillis 안에 결과를 받지 못한 대기 요청은 IllegalStateException으로 실패
+ *
+ * 호출자 트랜잭션 안의 Query는 커밋되지 않은 변경을 볼 수 있으므로 병합하지 않고 직접 실행
+ */
+public class SingleFlightQueryBus implements QueryBus {
+
+    private final QueryBus delegate;
+    private final long timeoutMillis;
+    private final int maxWaiters;
+    private final ConcurrentHashMap<Query<?>, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    public SingleFlightQueryBus(QueryBus delegate, long timeoutMillis, int maxWaiters) {
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("Timeout must be at least 1ms");
+        }
+        if (maxWaiters < 1) {
+            throw new IllegalArgumentException("Max waiters must be at least 1");
+        }
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaiters = maxWaiters;
+    }
+
+    @Override
+    public <Q extends Query<R>, R> R dispatch(Q query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            bypassed.increment();
+            executions.increment();
+            return delegate.dispatch(query);
+        }
+
+        InFlight call = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(query, call);
+
+        if (existing == null) {
+            return execute(query, call);
+        }
+        if (!existing.tryJoin(maxWaiters)) {
+            overflows.increment();
+            executions.increment();
+            return delegate.dispatch(query);
+        }
+
+        coalesced.increment();
+        return await(query, existing);
+    }
+
+    /**
+     * 병합 통계
+     */
+    public SingleFlightStats stats() {
+        return new SingleFlightStats(executions.sum(), coalesced.sum(), overflows.sum(), timeouts.sum(),
+                bypassed.sum(), inFlight.size());
+    }
+
+    private <Q extends Query<R>, R> R execute(Q query, InFlight call) {
+        executions.increment();
+        try {
+            R result = delegate.dispatch(query);
+            call.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(query, call);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R await(Query<R> query, InFlight call) {
+        try {
+            return (R) call.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight query failed: " + query.getClass().getName(), cause);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IllegalStateException(
+                    "Timed out after " + timeoutMillis + "ms waiting for in-flight query: " + query.getClass().getName(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight query: " + query.getClass().getName(), e);
+        } finally {
+            call.waiters.decrementAndGet();
+        }
+    }
+
+    private static final class InFlight {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        boolean tryJoin(int maxWaiters) {
+            int current = waiters.get();
+            while (current < maxWaiters) {
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                current = waiters.get();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 병합 통계
+     *
+     * @param executions 위임 Bus 실행 수
+     * @param coalesced  다른 요청의 결과를 공유한 요청 수
+     * @param overflows  대기 한도 초과로 직접 실행한 요청 수
+     * @param timeouts   대기 시간 초과 수
+     * @param bypassed   호출자 트랜잭션 안에서 병합 없이 직접 실행한 요청 수
+     * @param inFlight   현재 실행 중인 Query 수
+     */
+    public record SingleFlightStats(
+            long executions,
+            long coalesced,
+            long overflows,
+            long timeouts,
+            long bypassed,
+            int inFlight
+    ) {
+    }
+}
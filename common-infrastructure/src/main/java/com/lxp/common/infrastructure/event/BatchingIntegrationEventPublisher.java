@@ -0,0 +1,291 @@
+package com.lxp.common.infrastructure.event;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import com.lxp.common.application.port.out.IntegrationEventPublisher;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토픽별 배치 전송 통합 이벤트 발행기 기반 클래스
+ * 이벤트를 토픽별로 모아 batchSize건이 차거나 첫 이벤트 후 lingerMillis가 지나면 {@link #sendBatch}로 한 번에 전송
+ * 이벤트마다 반환된 Future는 해당 배치 전송이 성공하면 완료되고 실패하면 예외로 완료됨
+ *
+ * 배치는 토픽 잠금 안에서 토픽별 전송 대기열에 넣고 단일 전송 스레드가 대기열 순서대로 보내므로
+ * 같은 토픽의 배치는 발행 순서대로 전송됨
+ * 전송되지 않은 이벤트가 maxBufferedEvents건이면 새 이벤트는 즉시 실패하며, close 이후의 발행도 실패함
+ * 동기 publish는 배치 전송이 끝날 때까지 대기하므로 최대 lingerMillis만큼 지연될 수 있음
+ */
+public abstract class BatchingIntegrationEventPublisher implements IntegrationEventPublisher {
+
+    private static final int DEFAULT_MAX_BUFFERED_EVENTS = 10_000;
+
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int maxBufferedEvents;
+    private final Map<String, TopicBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final ScheduledExecutorService sender;
+    private volatile boolean closed;
+
+    protected BatchingIntegrationEventPublisher(String threadNamePrefix, int batchSize, long lingerMillis) {
+        this(threadNamePrefix, batchSize, lingerMillis, DEFAULT_MAX_BUFFERED_EVENTS);
+    }
+
+    protected BatchingIntegrationEventPublisher(String threadNamePrefix, int batchSize, long lingerMillis,
+                                                int maxBufferedEvents) {
+        if (batchSize < 1 || lingerMillis < 0) {
+            throw new IllegalArgumentException("Batch size must be at least 1 and linger must not be negative");
+        }
+        if (maxBufferedEvents < batchSize) {
+            throw new IllegalArgumentException("Max buffered events must be at least the batch size");
+        }
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.maxBufferedEvents = maxBufferedEvents;
+        this.sender = Executors.newSingleThreadScheduledExecutor(ExecutorFactory.namedThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * 한 토픽의 이벤트 배치 전송
+     * 예외를 던지면 배치의 모든 이벤트가 실패로 처리됨
+     */
+    protected abstract void sendBatch(String topic, List<IntegrationEvent> events);
+
+    /**
+     * 토픽을 지정하지 않은 이벤트의 토픽 (기본: 이벤트 타입)
+     */
+    protected String topicOf(IntegrationEvent event) {
+        return event.getEventType();
+    }
+
+    @Override
+    public void publish(IntegrationEvent event) {
+        await(publishAsync(event));
+    }
+
+    @Override
+    public void publish(String topic, IntegrationEvent event) {
+        await(publishAsync(topic, event));
+    }
+
+    /**
+     * 모든 이벤트를 적재한 뒤 전송 확인을 한 번에 대기
+     */
+    @Override
+    public void publishAll(Collection<? extends IntegrationEvent> events) {
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(events.size());
+        events.forEach(event -> acknowledgements.add(publishAsync(event)));
+        await(CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)));
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(IntegrationEvent event) {
+        return publishAsync(topicOf(event), event);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String topic, IntegrationEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Integration event must not be null");
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Publisher is closed"));
+        }
+        if (!reserve()) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Publisher buffer is full: " + maxBufferedEvents + " events are waiting to be sent"));
+        }
+        CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+        TopicBuffer buffer = buffers.computeIfAbsent(topic, TopicBuffer::new);
+
+        boolean full = false;
+        long lingerEpoch = -1;
+        synchronized (buffer) {
+            if (closed) {
+                buffered.decrementAndGet();
+                return CompletableFuture.failedFuture(new IllegalStateException("Publisher is closed"));
+            }
+            buffer.pending.add(new Pending(event, acknowledgement));
+            if (buffer.pending.size() >= batchSize) {
+                buffer.enqueue();
+                full = true;
+            } else if (buffer.pending.size() == 1) {
+                lingerEpoch = buffer.epoch;
+            }
+        }
+
+        try {
+            if (full) {
+                sender.execute(() -> sendReady(buffer));
+            } else if (lingerEpoch >= 0) {
+                long epoch = lingerEpoch;
+                sender.schedule(() -> flushIfEpoch(buffer, epoch), lingerMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // close와 경합한 경우: close가 이미 보낸 배치 외에 남은 이벤트를 실패 처리
+            failRemaining(buffer, new IllegalStateException("Publisher is closed", e));
+        }
+        return acknowledgement;
+    }
+
+    /**
+     * 대기 중인 모든 배치를 즉시 전송하고 완료될 때까지 대기
+     */
+    public void flush() {
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        buffers.values().forEach(buffer -> {
+            boolean queued;
+            synchronized (buffer) {
+                buffer.enqueue();
+                queued = !buffer.ready.isEmpty();
+            }
+            if (queued) {
+                try {
+                    sent.add(CompletableFuture.runAsync(() -> sendReady(buffer), sender));
+                } catch (RejectedExecutionException e) {
+                    failRemaining(buffer, new IllegalStateException("Publisher is closed", e));
+                }
+            }
+        });
+        await(CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * 새 발행을 막고 남은 배치를 전송한 뒤 전송 스레드 종료
+     * 종료 후에도 전송되지 못한 이벤트는 실패로 완료됨
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            sender.shutdown();
+            try {
+                sender.awaitTermination(Math.max(lingerMillis, 1000), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            IllegalStateException error = new IllegalStateException("Publisher is closed");
+            buffers.values().forEach(buffer -> failRemaining(buffer, error));
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = buffered.get();
+            if (current >= maxBufferedEvents) {
+                return false;
+            }
+            if (buffered.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void flushIfEpoch(TopicBuffer buffer, long epoch) {
+        synchronized (buffer) {
+            if (buffer.epoch != epoch) {
+                return;
+            }
+            buffer.enqueue();
+        }
+        sendReady(buffer);
+    }
+
+    /**
+     * 전송 스레드에서 토픽의 대기열 배치를 순서대로 전송
+     */
+    private void sendReady(TopicBuffer buffer) {
+        while (true) {
+            List<Pending> batch;
+            synchronized (buffer) {
+                batch = buffer.ready.poll();
+            }
+            if (batch == null) {
+                return;
+            }
+            send(buffer.topic, batch);
+        }
+    }
+
+    private void failRemaining(TopicBuffer buffer, RuntimeException error) {
+        List<Pending> remaining = new ArrayList<>();
+        synchronized (buffer) {
+            buffer.enqueue();
+            for (List<Pending> batch = buffer.ready.poll(); batch != null; batch = buffer.ready.poll()) {
+                remaining.addAll(batch);
+            }
+        }
+        buffered.addAndGet(-remaining.size());
+        remaining.forEach(pending -> pending.acknowledgement().completeExceptionally(error));
+    }
+
+    private void send(String topic, List<Pending> batch) {
+        List<IntegrationEvent> events = new ArrayList<>(batch.size());
+        batch.forEach(pending -> events.add(pending.event()));
+        try {
+            sendBatch(topic, events);
+            buffered.addAndGet(-batch.size());
+            batch.forEach(pending -> pending.acknowledgement().complete(null));
+        } catch (RuntimeException e) {
+            buffered.addAndGet(-batch.size());
+            batch.forEach(pending -> pending.acknowledgement().completeExceptionally(e));
+        }
+    }
+
+    private static void await(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Pending(IntegrationEvent event, CompletableFuture<Void> acknowledgement) {
+    }
+
+    /**
+     * 토픽별 대기 이벤트와 전송 대기열
+     * epoch는 배치를 대기열로 옮길 때마다 증가하여 지난 linger 예약을 무효화
+     */
+    private static final class TopicBuffer {
+
+        private final String topic;
+        private final Queue<List<Pending>> ready = new ArrayDeque<>();
+        private List<Pending> pending = new ArrayList<>();
+        private long epoch;
+
+        TopicBuffer(String topic) {
+            this.topic = topic;
+        }
+
+        void enqueue() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready.add(pending);
+            pending = new ArrayList<>();
+            epoch++;
+        }
+    }
+}
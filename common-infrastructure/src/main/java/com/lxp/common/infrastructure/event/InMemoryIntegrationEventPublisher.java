@@ -0,0 +1,66 @@
+package com.lxp.common.infrastructure.event;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메모리 기반 통합 이벤트 발행기 (참조 구현 및 테스트용)
+ * 토픽별로 배치 전송된 이벤트를 메모리에 보관
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.integration.in-memory", name = "enabled", havingValue = "true")
+public class InMemoryIntegrationEventPublisher extends BatchingIntegrationEventPublisher implements DisposableBean {
+
+    private final Map<String, List<IntegrationEvent>> topics = new ConcurrentHashMap<>();
+    private final LongAdder batches = new LongAdder();
+
+    public InMemoryIntegrationEventPublisher(
+            @Value("${lxp.integration.in-memory.batch-size:100}") int batchSize,
+            @Value("${lxp.integration.in-memory.linger-millis:5}") long lingerMillis,
+            @Value("${lxp.integration.in-memory.max-buffered-events:10000}") int maxBufferedEvents) {
+        super("in-memory-integration-publisher", batchSize, lingerMillis, maxBufferedEvents);
+    }
+
+    @Override
+    protected void sendBatch(String topic, List<IntegrationEvent> events) {
+        topics.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).addAll(events);
+        batches.increment();
+    }
+
+    /**
+     * 토픽에 전송된 이벤트 (전송 순서)
+     */
+    public List<IntegrationEvent> published(String topic) {
+        flush();
+        return List.copyOf(topics.getOrDefault(topic, List.of()));
+    }
+
+    /**
+     * 전송된 배치 수
+     */
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * 보관한 이벤트 삭제
+     */
+    public void clear() {
+        flush();
+        topics.clear();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+}
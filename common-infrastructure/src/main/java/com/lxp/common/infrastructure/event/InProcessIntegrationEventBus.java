@@ -0,0 +1,268 @@
+package com.lxp.common.infrastructure.event;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import com.lxp.common.application.port.in.IntegrationEventHandler;
+import com.lxp.common.application.port.out.IntegrationEventPublisher;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 링 버퍼 기반 프로세스 내 통합 이벤트 버스
+ * 모듈러 모놀리스처럼 같은 프로세스의 {@link IntegrationEventHandler}에 브로커 없이 이벤트를 전달
+ * 핸들러마다 전용 소비자 스레드가 발행 순서대로 이벤트를 처리하며, 느린 핸들러는 다른 핸들러를 막지 않음
+ * 버퍼가 가득 차면 가장 느린 핸들러가 따라올 때까지 발행자가 대기 (publish-timeout-millis 초과 시 예외)
+ * 핸들러가 소비자 스레드에서 다시 발행하면 자기 자신을 기다리며 멈추지 않도록 대기 없이 적재하고, 가득 차 있으면 바로 예외
+ * 토픽은 사용하지 않고 핸들러의 supportedEventType으로 구독 대상을 판단
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.integration.in-process", name = "enabled", havingValue = "true")
+public class InProcessIntegrationEventBus implements IntegrationEventPublisher, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessIntegrationEventBus.class);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final ObjectProvider<IntegrationEventHandler<?>> handlerProvider;
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+    private final long publishTimeoutNanos;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final ThreadLocal<Boolean> consumerThread = new ThreadLocal<>();
+
+    private volatile boolean running;
+    private volatile IntegrationEventRingBuffer<IntegrationEvent> ringBuffer;
+    private volatile List<Consumer> consumers = List.of();
+
+    public InProcessIntegrationEventBus(
+            ObjectProvider<IntegrationEventHandler<?>> handlerProvider,
+            @Value("${lxp.integration.in-process.capacity:1024}") int capacity,
+            @Value("${lxp.integration.in-process.wait-strategy:BLOCKING}") WaitStrategy waitStrategy,
+            @Value("${lxp.integration.in-process.publish-timeout-millis:5000}") long publishTimeoutMillis) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("In-process bus capacity must be a power of two: " + capacity);
+        }
+        this.handlerProvider = handlerProvider;
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.publishTimeoutNanos = publishTimeoutMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+    }
+
+    /**
+     * 이벤트 발행
+     * 버퍼가 가득 차면 publish-timeout-millis만큼 대기 (0이면 대기하지 않음, 음수는 무제한)
+     * 소비자 스레드(핸들러 안)에서의 발행은 대기하지 않음
+     *
+     * @throws IllegalStateException 버스가 정지되었거나 시간 안에 적재하지 못한 경우
+     */
+    @Override
+    public void publish(IntegrationEvent event) {
+        IntegrationEventRingBuffer<IntegrationEvent> buffer = ringBuffer;
+        if (!running || buffer == null) {
+            throw new IllegalStateException("In-process integration event bus is not running");
+        }
+        boolean accepted;
+        try {
+            accepted = buffer.publish(event, consumerThread.get() != null ? 0 : publishTimeoutNanos);
+        } catch (IllegalStateException e) {
+            rejected.increment();
+            throw new IllegalStateException(
+                    "In-process integration event bus rejected " + event.getEventType() + ": " + e.getMessage(), e);
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new IllegalStateException(
+                    "In-process integration event bus is full (capacity " + capacity + "): " + event.getEventType());
+        }
+        published.increment();
+    }
+
+    @Override
+    public void publish(String topic, IntegrationEvent event) {
+        publish(event);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        List<IntegrationEventHandler<?>> handlers = handlerProvider.orderedStream().toList();
+        IntegrationEventRingBuffer<IntegrationEvent> buffer =
+                new IntegrationEventRingBuffer<>(capacity, handlers.size(), waitStrategy);
+        List<Consumer> started = new ArrayList<>(handlers.size());
+        for (int i = 0; i < handlers.size(); i++) {
+            started.add(new Consumer(handlers.get(i), buffer, i));
+        }
+        this.ringBuffer = buffer;
+        this.consumers = List.copyOf(started);
+        this.running = true;
+        started.forEach(Consumer::start);
+    }
+
+    /**
+     * 발행을 막은 뒤 각 핸들러가 이미 적재된 이벤트를 모두 처리할 때까지 대기
+     * 공간을 기다리던 발행자는 예외로 실패하고, 진행 중이던 발행은 끝난 뒤 소비자가 처리
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        ringBuffer.close();
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 이벤트를 받는 다른 Lifecycle 빈보다 먼저 시작하고 나중에 정지
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+
+    /**
+     * 버스 통계
+     */
+    public BusStats stats() {
+        IntegrationEventRingBuffer<IntegrationEvent> buffer = ringBuffer;
+        List<HandlerStats> handlers = consumers.stream()
+                .map(consumer -> new HandlerStats(consumer.name, consumer.processed.sum(),
+                        consumer.failed.sum(), buffer.claimedSequence() - consumer.sequence.get()))
+                .toList();
+        return new BusStats(published.sum(), rejected.sum(), capacity,
+                buffer == null ? 0 : buffer.backlog(), handlers);
+    }
+
+    /**
+     * 소비자 대기 방식
+     * BUSY_SPIN: 최저 지연, 코어 점유 / YIELDING: 스핀 후 yield / SLEEPING: 스핀, yield 후 짧은 park
+     * BLOCKING: 스핀 후 생산자 신호를 기다림 (유휴 시 CPU 사용 최소)
+     */
+    public enum WaitStrategy {
+        BUSY_SPIN,
+        YIELDING,
+        SLEEPING,
+        BLOCKING
+    }
+
+    /**
+     * 버스 통계
+     *
+     * @param backlog 가장 느린 핸들러 기준 미처리 이벤트 수
+     */
+    public record BusStats(long published, long rejected, int capacity, long backlog, List<HandlerStats> handlers) {
+    }
+
+    /**
+     * 핸들러별 통계
+     *
+     * @param lag 핸들러가 아직 처리하지 않은 이벤트 수
+     */
+    public record HandlerStats(String handler, long processed, long failed, long lag) {
+    }
+
+    /**
+     * 핸들러 하나를 전담하는 소비자 스레드
+     * 연속으로 적재된 이벤트를 한 번에 처리한 뒤 시퀀스를 갱신하여 발행자에게 공간을 반환
+     */
+    private final class Consumer {
+
+        private final IntegrationEventHandler<IntegrationEvent> handler;
+        private final Class<?> eventType;
+        private final IntegrationEventRingBuffer<IntegrationEvent> buffer;
+        private final int index;
+        private final AtomicLong sequence;
+        private final String name;
+        private final Thread thread;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        private Consumer(IntegrationEventHandler<?> handler,
+                         IntegrationEventRingBuffer<IntegrationEvent> buffer, int index) {
+            this.handler = (IntegrationEventHandler<IntegrationEvent>) handler;
+            this.eventType = handler.supportedEventType();
+            this.buffer = buffer;
+            this.index = index;
+            this.sequence = buffer.consumerSequence(index);
+            Class<?> handlerClass = AopUtils.getTargetClass(handler);
+            this.name = handlerClass.getSimpleName().isEmpty() ? handlerClass.getName() : handlerClass.getSimpleName();
+            this.thread = ExecutorFactory.namedThreadFactory("in-process-integration-" + name).newThread(this::run);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void join(long millis) throws InterruptedException {
+            thread.join(millis);
+        }
+
+        private void run() {
+            consumerThread.set(Boolean.TRUE);
+            long next = sequence.get() + 1;
+            try {
+                while (true) {
+                    long available = buffer.waitFor(next, () -> running);
+                    if (available < 0) {
+                        if (buffer.claimedSequence() < next) {
+                            return;
+                        }
+                        // 선점은 되었으나 아직 기록 중인 이벤트까지 처리
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    for (long s = next; s <= available; s++) {
+                        dispatch(buffer.get(s));
+                        buffer.consumed(s);
+                    }
+                    buffer.advance(index, available);
+                    next = available + 1;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void dispatch(IntegrationEvent event) {
+            if (!eventType.isInstance(event)) {
+                return;
+            }
+            try {
+                handler.handle(event);
+                processed.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Integration event handler {} failed for {}: {}",
+                        name, event.getEventType(), event.getEventId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.lxp.common.infrastructure.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 다중 생산자, 다중 소비자 링 버퍼 (Disruptor 방식)
+ * 생산자는 CAS로 시퀀스를 선점하고, 각 소비자는 자신의 시퀀스를 따라 모든 항목을 순서대로 읽음
+ * 가장 느린 소비자가 읽지 않은 슬롯은 덮어쓰지 않으므로 버퍼가 가득 차면 생산자가 대기 (배압)
+ * 생산자와 소비자 모두 같은 대기 전략으로 기다리며, BLOCKING이면 상대의 신호(적재/소비 진행)로 깨어남
+ * 모든 소비자가 처리한 슬롯은 비워서 이벤트를 붙잡아 두지 않음
+ * close 후에는 새 적재와 공간을 기다리던 적재가 실패하며, close는 진행 중인 적재가 끝날 때까지 대기
+ *
+ * @param <E> 항목 타입
+ */
+final class IntegrationEventRingBuffer<E> {
+
+    private static final long CLOSE_PARK_NANOS = 1_000;
+    private static final long BLOCKING_WAIT_MILLIS = 10;
+
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final Object[] entries;
+    private final AtomicIntegerArray publishedRounds;
+    private final AtomicIntegerArray remainingConsumers;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong[] consumerSequences;
+    private final int consumerCount;
+    private final InProcessIntegrationEventBus.WaitStrategy waitStrategy;
+    private final Object blockingLock = new Object();
+    private final AtomicInteger blockedConsumers = new AtomicInteger();
+    private final Object producerLock = new Object();
+    private final AtomicInteger blockedProducers = new AtomicInteger();
+    private final AtomicInteger activePublishers = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    IntegrationEventRingBuffer(int capacity, int consumerCount, InProcessIntegrationEventBus.WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.entries = new Object[capacity];
+        this.publishedRounds = new AtomicIntegerArray(capacity);
+        this.remainingConsumers = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            publishedRounds.set(i, -1);
+        }
+        this.consumerSequences = new AtomicLong[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            consumerSequences[i] = new AtomicLong(-1);
+        }
+        this.consumerCount = consumerCount;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 항목 적재
+     *
+     * @param timeoutNanos 공간이 없을 때 최대 대기 시간 (0이면 대기하지 않음, 음수는 무제한)
+     * @return 시간 안에 적재하지 못하면 false
+     * @throws IllegalStateException close 이후이거나 대기 중에 close 또는 인터럽트된 경우
+     */
+    boolean publish(E entry, long timeoutNanos) {
+        activePublishers.incrementAndGet();
+        try {
+            return doPublish(entry, timeoutNanos);
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 새 적재를 막고 진행 중인 적재가 끝날 때까지 대기
+     * 반환 후에는 claimedSequence 이하의 모든 항목이 적재되어 있음
+     */
+    void close() {
+        closed = true;
+        signal(producerLock, blockedProducers);
+        while (activePublishers.get() > 0) {
+            LockSupport.parkNanos(CLOSE_PARK_NANOS);
+        }
+    }
+
+    private boolean doPublish(E entry, long timeoutNanos) {
+        long deadline = timeoutNanos >= 0 ? System.nanoTime() + timeoutNanos : Long.MAX_VALUE;
+        int attempt = 0;
+        long sequence;
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("Ring buffer is closed");
+            }
+            long current = claimed.get();
+            long next = current + 1;
+            if (next - capacity > minimumConsumerSequence()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                try {
+                    idle(attempt++, producerLock, blockedProducers,
+                            () -> closed || next - capacity <= minimumConsumerSequence());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for ring buffer space", e);
+                }
+                continue;
+            }
+            if (claimed.compareAndSet(current, next)) {
+                sequence = next;
+                break;
+            }
+        }
+
+        int index = (int) sequence & mask;
+        if (consumerCount > 0) {
+            entries[index] = entry;
+            remainingConsumers.set(index, consumerCount);
+        }
+        publishedRounds.set(index, (int) (sequence >>> shift));
+        signal(blockingLock, blockedConsumers);
+        return true;
+    }
+
+    /**
+     * sequence 항목이 적재될 때까지 대기 후 연속으로 적재된 마지막 시퀀스 반환
+     *
+     * @return running이 false가 된 뒤에도 항목이 없으면 -1
+     */
+    long waitFor(long sequence, BooleanSupplier running) throws InterruptedException {
+        int attempt = 0;
+        while (!isPublished(sequence)) {
+            if (!running.getAsBoolean()) {
+                return -1;
+            }
+            idle(attempt++, blockingLock, blockedConsumers, () -> isPublished(sequence));
+        }
+        long highest = sequence;
+        long upper = claimed.get();
+        while (highest < upper && isPublished(highest + 1)) {
+            highest++;
+        }
+        return highest;
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(long sequence) {
+        return (E) entries[(int) sequence & mask];
+    }
+
+    /**
+     * 소비자 하나가 sequence 항목 처리를 마침 (마지막 소비자가 슬롯을 비움)
+     * 소비자 시퀀스를 갱신하기 전에 호출해야 함
+     */
+    void consumed(long sequence) {
+        int index = (int) sequence & mask;
+        if (remainingConsumers.decrementAndGet(index) == 0) {
+            entries[index] = null;
+        }
+    }
+
+    AtomicLong consumerSequence(int consumer) {
+        return consumerSequences[consumer];
+    }
+
+    /**
+     * 소비자 시퀀스를 갱신하여 생산자에게 공간을 반환
+     * 대기 중인 생산자 수를 읽기 전에 갱신이 보이도록 volatile 쓰기를 사용
+     */
+    void advance(int consumer, long sequence) {
+        consumerSequences[consumer].set(sequence);
+        signal(producerLock, blockedProducers);
+    }
+
+    long claimedSequence() {
+        return claimed.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 가장 느린 소비자 기준 미처리 항목 수
+     */
+    long backlog() {
+        return claimed.get() - minimumConsumerSequence();
+    }
+
+    private boolean isPublished(long sequence) {
+        return publishedRounds.get((int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    private long minimumConsumerSequence() {
+        long minimum = claimed.get();
+        for (AtomicLong consumerSequence : consumerSequences) {
+            minimum = Math.min(minimum, consumerSequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * 대기 전략에 따라 한 번 대기
+     * BLOCKING은 스핀 후 lock에서 신호를 기다리며, 신호를 놓쳐도 BLOCKING_WAIT_MILLIS마다 다시 확인
+     */
+    private void idle(int attempt, Object lock, AtomicInteger waiters, BooleanSupplier ready)
+            throws InterruptedException {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (attempt < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            case SLEEPING -> {
+                if (attempt < 100) {
+                    Thread.onSpinWait();
+                } else if (attempt < 200) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+            }
+            case BLOCKING -> {
+                if (attempt < 100) {
+                    Thread.onSpinWait();
+                    return;
+                }
+                synchronized (lock) {
+                    waiters.incrementAndGet();
+                    try {
+                        if (!ready.getAsBoolean()) {
+                            lock.wait(BLOCKING_WAIT_MILLIS);
+                        }
+                    } finally {
+                        waiters.decrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    private static void signal(Object lock, AtomicInteger waiters) {
+        if (waiters.get() > 0) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.lxp.common.infrastructure.metrics;
+
+/**
+ * Command / Query Bus 계측 SPI
+ * 핸들러 실행마다 호출되므로 구현체는 hot path 비용을 최소화해야 함
+ * 별도 구현체(Micrometer 연동 등)를 Bean으로 등록하면 {@link DefaultBusMetrics} 대신 사용
+ */
+public interface BusMetrics {
+
+    /**
+     * Command 처리 기록
+     */
+    void recordCommand(Class<?> commandType, long elapsedNanos, boolean success);
+
+    /**
+     * Query 처리 기록
+     */
+    void recordQuery(Class<?> queryType, long elapsedNanos, boolean success);
+
+    /**
+     * 현재까지 수집된 지표
+     */
+    BusMetricsSnapshot snapshot();
+}
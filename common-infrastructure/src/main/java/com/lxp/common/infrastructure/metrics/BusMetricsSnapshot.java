@@ -0,0 +1,46 @@
+package com.lxp.common.infrastructure.metrics;
+
+import java.util.List;
+
+/**
+ * Bus 계측 스냅샷
+ *
+ * @param commands Command 타입별 지표
+ * @param queries  Query 타입별 지표
+ */
+public record BusMetricsSnapshot(
+        List<MessageMetrics> commands,
+        List<MessageMetrics> queries
+) {
+
+    public BusMetricsSnapshot {
+        commands = List.copyOf(commands);
+        queries = List.copyOf(queries);
+    }
+
+    /**
+     * Command / Query 타입별 지표
+     *
+     * @param messageType 메시지 클래스 이름
+     * @param count       처리 건수
+     * @param errors      실패 건수
+     * @param meanMillis  평균 지연 시간
+     * @param p50Millis   50 백분위 지연 시간
+     * @param p90Millis   90 백분위 지연 시간
+     * @param p99Millis   99 백분위 지연 시간
+     * @param p999Millis  99.9 백분위 지연 시간
+     * @param maxMillis   최대 지연 시간
+     */
+    public record MessageMetrics(
+            String messageType,
+            long count,
+            long errors,
+            double meanMillis,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.lxp.common.infrastructure.metrics;
+
+/**
+ * 낙관적 락 충돌 계측 SPI
+ * Aggregate 타입(AggregateCommand가 아니면 Command 타입)별로 기록
+ * 별도 구현체(Micrometer 연동 등)를 Bean으로 등록하면 {@link DefaultConflictMetrics} 대신 사용
+ */
+public interface ConflictMetrics {
+
+    /**
+     * Command 처리 시도 기록
+     */
+    void recordAttempt(String aggregateType);
+
+    /**
+     * 낙관적 락 충돌 기록
+     */
+    void recordConflict(String aggregateType);
+
+    /**
+     * 최대 시도 횟수를 모두 소진한 충돌 기록
+     */
+    void recordExhausted(String aggregateType);
+
+    /**
+     * 현재까지 수집된 지표
+     */
+    ConflictMetricsSnapshot snapshot();
+}
@@ -0,0 +1,33 @@
+package com.lxp.common.infrastructure.metrics;
+
+import java.util.List;
+
+/**
+ * 낙관적 락 충돌 계측 스냅샷
+ *
+ * @param aggregates Aggregate 타입별 지표
+ */
+public record ConflictMetricsSnapshot(List<AggregateMetrics> aggregates) {
+
+    public ConflictMetricsSnapshot {
+        aggregates = List.copyOf(aggregates);
+    }
+
+    /**
+     * Aggregate 타입별 충돌 지표
+     *
+     * @param aggregateType Aggregate 타입 (AggregateCommand가 아니면 Command 타입)
+     * @param attempts      처리 시도 수
+     * @param conflicts     충돌 수
+     * @param exhausted     재시도를 모두 소진한 실패 수
+     * @param conflictRate  충돌률 (conflicts / attempts)
+     */
+    public record AggregateMetrics(
+            String aggregateType,
+            long attempts,
+            long conflicts,
+            long exhausted,
+            double conflictRate
+    ) {
+    }
+}
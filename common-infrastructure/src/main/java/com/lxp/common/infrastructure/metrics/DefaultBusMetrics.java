@@ -0,0 +1,81 @@
+package com.lxp.common.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기본 Bus 계측 구현체
+ * 메시지 타입별 오류 LongAdder와 {@link LatencyHistogram}으로 기록 (처리 건수는 히스토그램 건수 사용)
+ * 타입별 통계 객체는 최초 1회만 생성되며 이후 기록은 락과 객체 생성 없이 수행
+ */
+@Component
+@ConditionalOnMissingBean(BusMetrics.class)
+public class DefaultBusMetrics implements BusMetrics {
+
+    private final Map<Class<?>, MessageStats> commandStats = new ConcurrentHashMap<>();
+    private final Map<Class<?>, MessageStats> queryStats = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordCommand(Class<?> commandType, long elapsedNanos, boolean success) {
+        statsFor(commandStats, commandType).record(elapsedNanos, success);
+    }
+
+    @Override
+    public void recordQuery(Class<?> queryType, long elapsedNanos, boolean success) {
+        statsFor(queryStats, queryType).record(elapsedNanos, success);
+    }
+
+    @Override
+    public BusMetricsSnapshot snapshot() {
+        return new BusMetricsSnapshot(toMetrics(commandStats), toMetrics(queryStats));
+    }
+
+    private static MessageStats statsFor(Map<Class<?>, MessageStats> stats, Class<?> messageType) {
+        MessageStats existing = stats.get(messageType);
+        return existing != null ? existing : stats.computeIfAbsent(messageType, type -> new MessageStats());
+    }
+
+    private static List<BusMetricsSnapshot.MessageMetrics> toMetrics(Map<Class<?>, MessageStats> stats) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toMetrics(entry.getKey().getName()))
+                .sorted(Comparator.comparing(BusMetricsSnapshot.MessageMetrics::messageType))
+                .toList();
+    }
+
+    private static final class MessageStats {
+
+        private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        void record(long elapsedNanos, boolean success) {
+            if (!success) {
+                errors.increment();
+            }
+            latency.record(elapsedNanos);
+        }
+
+        BusMetricsSnapshot.MessageMetrics toMetrics(String messageType) {
+            LatencyHistogram.Snapshot snapshot = latency.snapshot();
+            return new BusMetricsSnapshot.MessageMetrics(
+                    messageType,
+                    snapshot.count(),
+                    errors.sum(),
+                    snapshot.meanNanos() / NANOS_PER_MILLI,
+                    snapshot.percentileMillis(50),
+                    snapshot.percentileMillis(90),
+                    snapshot.percentileMillis(99),
+                    snapshot.percentileMillis(99.9),
+                    snapshot.maxNanos() / NANOS_PER_MILLI
+            );
+        }
+    }
+}
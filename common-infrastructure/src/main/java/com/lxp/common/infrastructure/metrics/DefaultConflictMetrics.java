@@ -0,0 +1,62 @@
+package com.lxp.common.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기본 낙관적 락 충돌 계측 구현체
+ * Aggregate 타입별 LongAdder 카운터로 기록
+ */
+@Component
+@ConditionalOnMissingBean(ConflictMetrics.class)
+public class DefaultConflictMetrics implements ConflictMetrics {
+
+    private final Map<String, AggregateStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordAttempt(String aggregateType) {
+        statsFor(aggregateType).attempts.increment();
+    }
+
+    @Override
+    public void recordConflict(String aggregateType) {
+        statsFor(aggregateType).conflicts.increment();
+    }
+
+    @Override
+    public void recordExhausted(String aggregateType) {
+        statsFor(aggregateType).exhausted.increment();
+    }
+
+    @Override
+    public ConflictMetricsSnapshot snapshot() {
+        return new ConflictMetricsSnapshot(stats.entrySet().stream()
+                .map(entry -> entry.getValue().toMetrics(entry.getKey()))
+                .sorted(Comparator.comparing(ConflictMetricsSnapshot.AggregateMetrics::aggregateType))
+                .toList());
+    }
+
+    private AggregateStats statsFor(String aggregateType) {
+        AggregateStats existing = stats.get(aggregateType);
+        return existing != null ? existing : stats.computeIfAbsent(aggregateType, key -> new AggregateStats());
+    }
+
+    private static final class AggregateStats {
+
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+
+        ConflictMetricsSnapshot.AggregateMetrics toMetrics(String aggregateType) {
+            long attemptCount = attempts.sum();
+            long conflictCount = conflicts.sum();
+            return new ConflictMetricsSnapshot.AggregateMetrics(aggregateType, attemptCount, conflictCount,
+                    exhausted.sum(), attemptCount == 0 ? 0.0 : (double) conflictCount / attemptCount);
+        }
+    }
+}
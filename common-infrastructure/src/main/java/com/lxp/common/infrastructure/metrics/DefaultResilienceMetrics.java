@@ -0,0 +1,76 @@
+package com.lxp.common.infrastructure.metrics;
+
+import com.lxp.common.infrastructure.resilience.SlidingWindowCircuitBreaker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기본 서킷 브레이커 / 벌크헤드 계측 구현체
+ * 이름별 LongAdder 카운터로 기록
+ */
+@Component
+@ConditionalOnMissingBean(ResilienceMetrics.class)
+public class DefaultResilienceMetrics implements ResilienceMetrics {
+
+    private final Map<String, BreakerStats> breakers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> bulkheadRejections = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordStateTransition(String circuitBreaker, SlidingWindowCircuitBreaker.State from,
+                                      SlidingWindowCircuitBreaker.State to) {
+        BreakerStats stats = breakerStats(circuitBreaker);
+        stats.state = to;
+        switch (to) {
+            case OPEN -> stats.opened.increment();
+            case HALF_OPEN -> stats.halfOpened.increment();
+            case CLOSED -> stats.closed.increment();
+        }
+    }
+
+    @Override
+    public void recordCallNotPermitted(String circuitBreaker) {
+        breakerStats(circuitBreaker).notPermitted.increment();
+    }
+
+    @Override
+    public void recordBulkheadRejected(String bulkhead) {
+        bulkheadRejections.computeIfAbsent(bulkhead, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public ResilienceMetricsSnapshot snapshot() {
+        return new ResilienceMetricsSnapshot(
+                breakers.entrySet().stream()
+                        .map(entry -> entry.getValue().toMetrics(entry.getKey()))
+                        .sorted(Comparator.comparing(ResilienceMetricsSnapshot.CircuitBreakerMetrics::name))
+                        .toList(),
+                bulkheadRejections.entrySet().stream()
+                        .map(entry -> new ResilienceMetricsSnapshot.BulkheadMetrics(entry.getKey(), entry.getValue().sum()))
+                        .sorted(Comparator.comparing(ResilienceMetricsSnapshot.BulkheadMetrics::name))
+                        .toList());
+    }
+
+    private BreakerStats breakerStats(String name) {
+        BreakerStats existing = breakers.get(name);
+        return existing != null ? existing : breakers.computeIfAbsent(name, key -> new BreakerStats());
+    }
+
+    private static final class BreakerStats {
+
+        private volatile SlidingWindowCircuitBreaker.State state = SlidingWindowCircuitBreaker.State.CLOSED;
+        private final LongAdder opened = new LongAdder();
+        private final LongAdder halfOpened = new LongAdder();
+        private final LongAdder closed = new LongAdder();
+        private final LongAdder notPermitted = new LongAdder();
+
+        ResilienceMetricsSnapshot.CircuitBreakerMetrics toMetrics(String name) {
+            return new ResilienceMetricsSnapshot.CircuitBreakerMetrics(
+                    name, state.name(), opened.sum(), halfOpened.sum(), closed.sum(), notPermitted.sum());
+        }
+    }
+}
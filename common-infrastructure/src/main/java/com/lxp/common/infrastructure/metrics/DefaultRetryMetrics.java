@@ -0,0 +1,66 @@
+package com.lxp.common.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기본 재시도 계측 구현체
+ * 메소드별 LongAdder 카운터로 기록
+ */
+@Component
+@ConditionalOnMissingBean(RetryMetrics.class)
+public class DefaultRetryMetrics implements RetryMetrics {
+
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordCall(String operation) {
+        statsFor(operation).calls.increment();
+    }
+
+    @Override
+    public void recordRetry(String operation, int attempt) {
+        statsFor(operation).retries.increment();
+    }
+
+    @Override
+    public void recordExhausted(String operation) {
+        statsFor(operation).exhausted.increment();
+    }
+
+    @Override
+    public void recordBudgetExhausted(String operation) {
+        statsFor(operation).budgetExhausted.increment();
+    }
+
+    @Override
+    public RetryMetricsSnapshot snapshot() {
+        return new RetryMetricsSnapshot(stats.entrySet().stream()
+                .map(entry -> entry.getValue().toMetrics(entry.getKey()))
+                .sorted(Comparator.comparing(RetryMetricsSnapshot.OperationMetrics::operation))
+                .toList());
+    }
+
+    private OperationStats statsFor(String operation) {
+        OperationStats existing = stats.get(operation);
+        return existing != null ? existing : stats.computeIfAbsent(operation, key -> new OperationStats());
+    }
+
+    private static final class OperationStats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder budgetExhausted = new LongAdder();
+
+        RetryMetricsSnapshot.OperationMetrics toMetrics(String operation) {
+            return new RetryMetricsSnapshot.OperationMetrics(
+                    operation, calls.sum(), retries.sum(), exhausted.sum(), budgetExhausted.sum());
+        }
+    }
+}
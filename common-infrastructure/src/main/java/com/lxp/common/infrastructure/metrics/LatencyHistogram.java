@@ -0,0 +1,131 @@
+package com.lxp.common.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없는 지연 시간 히스토그램 (HDR 방식 로그-선형 버킷)
+ * 2의 거듭제곱 구간마다 8개의 선형 하위 버킷을 두어 상대 오차 12.5% 이내로 나노초 값을 기록
+ * 버킷은 LongAdder이므로 여러 스레드가 같은 버킷에 기록해도 경합 시에만 셀이 늘어나 CAS 재시도가 분산됨
+ * 전체 건수는 버킷 합으로 계산하므로 별도 카운터를 두지 않음
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[indexOf(value)].increment();
+        totalNanos.add(value);
+
+        // 최댓값이 갱신될 때만 CAS
+        long currentMax = maxNanos.get();
+        while (value > currentMax && !maxNanos.compareAndSet(currentMax, value)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    /**
+     * 현재까지 기록된 값의 스냅샷
+     * 기록과 동시에 호출되면 버킷 간 약간의 불일치가 있을 수 있음
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        return new Snapshot(counts, total, totalNanos.sum(), maxNanos.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * 히스토그램 스냅샷
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * 백분위 값 (나노초, 버킷 상한 기준)
+         *
+         * @param percentile 0 ~ 100
+         */
+        public long percentileNanos(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100.0) / 100.0));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(upperBoundOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        public double percentileMillis(double percentile) {
+            return (double) percentileNanos(percentile) / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
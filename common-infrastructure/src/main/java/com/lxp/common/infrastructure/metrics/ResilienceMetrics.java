@@ -0,0 +1,31 @@
+package com.lxp.common.infrastructure.metrics;
+
+import com.lxp.common.infrastructure.resilience.SlidingWindowCircuitBreaker;
+
+/**
+ * 서킷 브레이커 / 벌크헤드 계측 SPI
+ * 별도 구현체(Micrometer 연동 등)를 Bean으로 등록하면 {@link DefaultResilienceMetrics} 대신 사용
+ */
+public interface ResilienceMetrics {
+
+    /**
+     * 서킷 브레이커 상태 전이 기록
+     */
+    void recordStateTransition(String circuitBreaker, SlidingWindowCircuitBreaker.State from,
+                               SlidingWindowCircuitBreaker.State to);
+
+    /**
+     * 서킷 브레이커가 열려 차단된 호출 기록
+     */
+    void recordCallNotPermitted(String circuitBreaker);
+
+    /**
+     * 벌크헤드 한도 초과로 거부된 호출 기록
+     */
+    void recordBulkheadRejected(String bulkhead);
+
+    /**
+     * 현재까지 수집된 지표
+     */
+    ResilienceMetricsSnapshot snapshot();
+}
@@ -0,0 +1,49 @@
+package com.lxp.common.infrastructure.metrics;
+
+import java.util.List;
+
+/**
+ * 서킷 브레이커 / 벌크헤드 계측 스냅샷
+ *
+ * @param circuitBreakers 서킷 브레이커별 지표
+ * @param bulkheads       벌크헤드별 지표
+ */
+public record ResilienceMetricsSnapshot(
+        List<CircuitBreakerMetrics> circuitBreakers,
+        List<BulkheadMetrics> bulkheads
+) {
+
+    public ResilienceMetricsSnapshot {
+        circuitBreakers = List.copyOf(circuitBreakers);
+        bulkheads = List.copyOf(bulkheads);
+    }
+
+    /**
+     * 서킷 브레이커별 지표
+     *
+     * @param name         서킷 브레이커 이름
+     * @param state        마지막으로 기록된 상태
+     * @param opened       OPEN 전이 횟수
+     * @param halfOpened   HALF_OPEN 전이 횟수
+     * @param closed       CLOSED 전이 횟수
+     * @param notPermitted 차단된 호출 수
+     */
+    public record CircuitBreakerMetrics(
+            String name,
+            String state,
+            long opened,
+            long halfOpened,
+            long closed,
+            long notPermitted
+    ) {
+    }
+
+    /**
+     * 벌크헤드별 지표
+     *
+     * @param name     벌크헤드 이름
+     * @param rejected 거부된 호출 수
+     */
+    public record BulkheadMetrics(String name, long rejected) {
+    }
+}
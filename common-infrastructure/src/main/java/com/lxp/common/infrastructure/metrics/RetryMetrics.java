@@ -0,0 +1,35 @@
+package com.lxp.common.infrastructure.metrics;
+
+/**
+ * 재시도 계측 SPI
+ * 별도 구현체(Micrometer 연동 등)를 Bean으로 등록하면 {@link DefaultRetryMetrics} 대신 사용
+ */
+public interface RetryMetrics {
+
+    /**
+     * 재시도 대상 메소드 호출 기록
+     */
+    void recordCall(String operation);
+
+    /**
+     * 재시도 기록
+     *
+     * @param attempt 실패한 시도 번호
+     */
+    void recordRetry(String operation, int attempt);
+
+    /**
+     * 최대 시도 횟수를 모두 소진한 실패 기록
+     */
+    void recordExhausted(String operation);
+
+    /**
+     * 재시도 예산 부족으로 재시도하지 못한 실패 기록
+     */
+    void recordBudgetExhausted(String operation);
+
+    /**
+     * 현재까지 수집된 지표
+     */
+    RetryMetricsSnapshot snapshot();
+}
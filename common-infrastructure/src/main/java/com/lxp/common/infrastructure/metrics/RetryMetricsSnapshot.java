@@ -0,0 +1,33 @@
+package com.lxp.common.infrastructure.metrics;
+
+import java.util.List;
+
+/**
+ * 재시도 계측 스냅샷
+ *
+ * @param operations 메소드별 지표
+ */
+public record RetryMetricsSnapshot(List<OperationMetrics> operations) {
+
+    public RetryMetricsSnapshot {
+        operations = List.copyOf(operations);
+    }
+
+    /**
+     * 메소드별 재시도 지표
+     *
+     * @param operation       메소드 시그니처
+     * @param calls           호출 건수
+     * @param retries         재시도 횟수
+     * @param exhausted       최대 시도 소진 실패 건수
+     * @param budgetExhausted 재시도 예산 부족 실패 건수
+     */
+    public record OperationMetrics(
+            String operation,
+            long calls,
+            long retries,
+            long exhausted,
+            long budgetExhausted
+    ) {
+    }
+}
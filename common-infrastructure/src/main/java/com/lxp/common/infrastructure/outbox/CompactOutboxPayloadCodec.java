@@ -0,0 +1,183 @@
+package com.lxp.common.infrastructure.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 바이너리 코덱
+ * 형식: [버전 1byte][형식 1byte] + 본문
+ * 형식 0: UTF-8 원문
+ * 형식 1: 원문 길이(int) + Deflate(BEST_SPEED) 압축 본문 (이전 버전이 기록한 행 읽기용)
+ * 형식 2: 원문 길이(varint) + 프리셋 사전을 사용한 raw Deflate 압축 본문
+ *
+ * 도메인 이벤트 JSON은 대부분 수백 바이트라 사전 없이는 필드 이름과 UUID/시각 형식을 한 번씩만 보게 되어 압축이 거의 되지 않음
+ * 이벤트 JSON에 반복되는 필드 이름과 구두점으로 만든 사전을 미리 넣어 작은 페이로드도 압축되도록 하고,
+ * zlib 헤더/체크섬 없이 raw Deflate로 기록하여 형식 오버헤드를 줄임
+ * 원문이 compressionThreshold 바이트 이상이고 압축 결과가 더 작을 때만 압축
+ * 사전은 형식 2의 일부이므로 변경하면 안 되며, 바꾸려면 새 형식 번호를 추가해야 함
+ */
+public final class CompactOutboxPayloadCodec implements OutboxPayloadCodec {
+
+    public static final String ID = "compact";
+
+    private static final byte VERSION = 1;
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+    private static final byte DICTIONARY_DEFLATED = 2;
+    private static final int HEADER_SIZE = 2;
+
+    /**
+     * 형식 2 프리셋 사전 (Deflate는 뒤쪽 문자열을 더 짧게 참조하므로 자주 쓰이는 문자열을 뒤에 둠)
+     */
+    private static final byte[] DICTIONARY = (
+            "{\"description\":\"\",\"title\":\"\",\"name\":\"\",\"email\":\"\",\"reason\":\"\","
+                    + "\"amount\":0,\"price\":0,\"quantity\":1,\"count\":0,\"version\":1,\"enabled\":true,"
+                    + "\"deleted\":false,\"value\":null,\"type\":\"\",\"status\":\"ACTIVE\",\"code\":\"\","
+                    + "\"createdAt\":\"\",\"updatedAt\":\"\",\"startedAt\":\"\",\"completedAt\":\"\","
+                    + "\"userId\":\"\",\"memberId\":\"\",\"courseId\":\"\",\"lectureId\":\"\",\"id\":\"\","
+                    + "\"correlationId\":\"\",\"causationId\":\"\",\"source\":\"\","
+                    + "\"aggregateType\":\"\",\"eventType\":\"\",Created\",Updated\",Deleted\","
+                    + "-4000-8000-0000-\",\"occurredAt\":\"2020-01-01T00:00:00.000000\","
+                    + "\"aggregateId\":\"\",\"eventId\":\""
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final int compressionThreshold;
+
+    public CompactOutboxPayloadCodec(int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must not be negative");
+        }
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(String payload) {
+        byte[] raw = payload.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= compressionThreshold) {
+            byte[] deflated = deflate(raw);
+            if (deflated != null) {
+                return deflated;
+            }
+        }
+        byte[] data = new byte[HEADER_SIZE + raw.length];
+        data[0] = VERSION;
+        data[1] = RAW;
+        System.arraycopy(raw, 0, data, HEADER_SIZE, raw.length);
+        return data;
+    }
+
+    @Override
+    public String decode(byte[] data) {
+        if (data.length < HEADER_SIZE || data[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported compact payload header");
+        }
+        return switch (data[1]) {
+            case RAW -> new String(data, HEADER_SIZE, data.length - HEADER_SIZE, StandardCharsets.UTF_8);
+            case DEFLATED -> {
+                int length = ByteBuffer.wrap(data, HEADER_SIZE, Integer.BYTES).getInt();
+                yield inflate(data, HEADER_SIZE + Integer.BYTES, length, false);
+            }
+            case DICTIONARY_DEFLATED -> {
+                long header = readVarint(data);
+                yield inflate(data, (int) (header >>> 32), (int) header, true);
+            }
+            default -> throw new IllegalArgumentException("Unsupported compact payload format: " + data[1]);
+        };
+    }
+
+    /**
+     * 압축 결과가 원문 형식(헤더 + 원문)보다 작지 않으면 null
+     */
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(raw);
+            deflater.finish();
+            int limit = HEADER_SIZE + raw.length;
+            ByteArrayOutputStream out = new ByteArrayOutputStream(limit);
+            out.write(VERSION);
+            out.write(DICTIONARY_DEFLATED);
+            writeVarint(out, raw.length);
+            byte[] buffer = new byte[Math.min(Math.max(raw.length, 64), 8192)];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+                if (out.size() >= limit) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] data, int offset, int length, boolean dictionary) {
+        Inflater inflater = new Inflater(dictionary);
+        try {
+            if (dictionary) {
+                inflater.setDictionary(DICTIONARY);
+            }
+            inflater.setInput(data, offset, data.length - offset);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalArgumentException("Truncated compact payload");
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted compact payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * 헤더 뒤의 varint 원문 길이 읽기
+     *
+     * @return 상위 32비트는 본문 시작 위치, 하위 32비트는 원문 길이
+     */
+    private static long readVarint(byte[] data) {
+        int value = 0;
+        int position = HEADER_SIZE;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position >= data.length) {
+                break;
+            }
+            byte b = data[position++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return ((long) position << 32) | value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupted compact payload length");
+    }
+}
@@ -0,0 +1,29 @@
+package com.lxp.common.infrastructure.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 같은 JVM 안에서 전달되는 Outbox 알림
+ * {@link OutboxEventCollector}가 Outbox 이벤트를 기록한 트랜잭션이 커밋된 직후 알림
+ * 직접 기록하는 경우 커밋 후 {@link #signal()} 호출
+ */
+@Component
+public class InProcessOutboxNotificationSource implements OutboxNotificationSource {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 새 Outbox 이벤트 알림
+     */
+    public void signal() {
+        listeners.forEach(Runnable::run);
+    }
+}
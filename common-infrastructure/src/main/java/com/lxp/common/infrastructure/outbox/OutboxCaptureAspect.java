@@ -0,0 +1,40 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.domain.event.AggregateRoot;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리포지토리 save 호출을 가로채 저장된 Aggregate를 {@link OutboxEventCollector}에 등록
+ * 대상: Spring Data 리포지토리와 @Repository 클래스의 save* 메서드 (단건 또는 Iterable 인자)
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "lxp.outbox.capture", name = "enabled", havingValue = "true")
+public class OutboxCaptureAspect {
+
+    private final OutboxEventCollector outboxEventCollector;
+
+    public OutboxCaptureAspect(OutboxEventCollector outboxEventCollector) {
+        this.outboxEventCollector = outboxEventCollector;
+    }
+
+    @AfterReturning("execution(* org.springframework.data.repository.Repository+.save*(..))"
+            + " || (@within(org.springframework.stereotype.Repository) && execution(* save*(..)))")
+    public void capture(JoinPoint joinPoint) {
+        for (Object arg : joinPoint.getArgs()) {
+            if (arg instanceof AggregateRoot aggregate) {
+                outboxEventCollector.collect(aggregate);
+            } else if (arg instanceof Iterable<?> iterable) {
+                for (Object element : iterable) {
+                    if (element instanceof AggregateRoot aggregate) {
+                        outboxEventCollector.collect(aggregate);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Outbox 이벤트 아카이브 파일 작성기
+ * gzip으로 압축한 바이너리 레코드 파일 (헤더 "LXPOBX" + 버전, 이후 레코드 반복)
+ * 레코드: id(long), 문자열 필드(길이 int + UTF-8, null은 -1), 생성/발행 시각(UTC epoch millis, 없으면 -1),
+ * 페이로드 코덱 id와 저장된 페이로드 바이트(길이 int + 바이트, 코덱 id가 없으면 텍스트 페이로드의 UTF-8)
+ */
+final class OutboxEventArchiver implements Closeable {
+
+    private static final byte[] MAGIC = "LXPOBX".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 2;
+
+    private final Path file;
+    private final DataOutputStream out;
+
+    private OutboxEventArchiver(Path file, DataOutputStream out) {
+        this.file = file;
+        this.out = out;
+    }
+
+    static OutboxEventArchiver open(Path directory, LocalDateTime runAt) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("outbox-archive-" + runAt.toEpochSecond(ZoneOffset.UTC) + ".bin.gz");
+            DataOutputStream out = new DataOutputStream(new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file)), true));
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            return new OutboxEventArchiver(file, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox archive in " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드 기록 후 디스크로 flush (삭제 커밋 전에 호출)
+     */
+    void append(List<OutboxEvent> events) {
+        try {
+            for (OutboxEvent event : events) {
+                out.writeLong(event.getId());
+                writeString(event.getEventId());
+                writeString(event.getEventType());
+                writeString(event.getAggregateType());
+                writeString(event.getAggregateId());
+                writeString(event.getStatus().name());
+                writeTime(event.getCreatedAt());
+                writeTime(event.getPublishedAt());
+                writeString(event.getPayloadCodec());
+                writeBytes(event.getPayloadCodec() != null
+                        ? event.getPayloadData()
+                        : event.getPayload() == null ? null : event.getPayload().getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox archive " + file, e);
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close outbox archive " + file, e);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeTime(LocalDateTime value) throws IOException {
+        out.writeLong(value == null ? -1 : value.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
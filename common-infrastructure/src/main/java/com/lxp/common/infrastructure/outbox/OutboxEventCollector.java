@@ -0,0 +1,169 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lxp.common.domain.event.AggregateRoot;
+import com.lxp.common.domain.event.DomainEvent;
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+import com.lxp.common.infrastructure.persistence.OutboxEventBatchWriter;
+import com.lxp.common.infrastructure.persistence.SavepointAwareSynchronization;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 트랜잭션 단위 Outbox 이벤트 수집기
+ * 트랜잭션 안에서 등록된 Aggregate의 도메인 이벤트를 커밋 직전에 한 번에 직렬화하여
+ * outbox_events에 JDBC 배치 INSERT로 기록하고 Aggregate의 이벤트를 비움
+ *
+ * 기록은 같은 트랜잭션에서 수행되므로 비즈니스 데이터와 Outbox 이벤트가 함께 커밋되거나 함께 롤백됨
+ * 세이브포인트로 되돌린 Command의 이벤트는 {@link SavepointAwareSynchronization}으로 알림을 받아 기록에서 제외
+ * 커밋 후에는 {@link InProcessOutboxNotificationSource}로 같은 JVM의 릴레이를 깨움
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.outbox.capture", name = "enabled", havingValue = "true")
+public class OutboxEventCollector {
+
+    private final OutboxEventBatchWriter outboxEventBatchWriter;
+    private final OutboxPayloadCodecRegistry payloadCodecRegistry;
+    private final InProcessOutboxNotificationSource notificationSource;
+    private final OutboxEventSerializer serializer;
+
+    public OutboxEventCollector(
+            OutboxEventBatchWriter outboxEventBatchWriter,
+            OutboxPayloadCodecRegistry payloadCodecRegistry,
+            InProcessOutboxNotificationSource notificationSource,
+            ObjectProvider<ObjectMapper> objectMapperProvider) {
+        this.outboxEventBatchWriter = outboxEventBatchWriter;
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        this.notificationSource = notificationSource;
+
+        ObjectMapper objectMapper = objectMapperProvider.getIfAvailable();
+        this.serializer = new OutboxEventSerializer(
+                objectMapper != null ? objectMapper : new ObjectMapper().findAndRegisterModules());
+    }
+
+    /**
+     * 현재 트랜잭션에 Aggregate 등록 (같은 Aggregate는 한 번만 등록)
+     *
+     * @return 활성 트랜잭션이 없어 등록하지 못하면 false
+     */
+    public boolean collect(AggregateRoot aggregate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        currentBatch().add(aggregate);
+        return true;
+    }
+
+    private Batch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Batch batch && batch.owner() == this) {
+                return batch;
+            }
+        }
+        Batch batch = new Batch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    /**
+     * Aggregate마다 eventCounts만큼의 앞쪽 이벤트를 기록
+     *
+     * @return 기록한 Outbox 이벤트 수
+     */
+    private int write(List<AggregateRoot> aggregates, ToIntFunction<AggregateRoot> eventCounts) {
+        List<OutboxEvent> outboxEvents = new ArrayList<>();
+        for (AggregateRoot aggregate : aggregates) {
+            String aggregateType = ClassUtils.getUserClass(aggregate).getSimpleName();
+            for (DomainEvent event : aggregate.getDomainEvents().subList(0, eventCounts.applyAsInt(aggregate))) {
+                outboxEvents.add(payloadCodecRegistry.newEvent(event.getEventId(), event.getOccurredAt(),
+                        event.getEventType(), aggregateType, event.getAggregateId(), serializer.serialize(event)));
+            }
+        }
+        outboxEventBatchWriter.writeAll(outboxEvents);
+        aggregates.forEach(AggregateRoot::clearDomainEvents);
+        return outboxEvents.size();
+    }
+
+    /**
+     * 트랜잭션에 바인딩된 Aggregate 목록 (트랜잭션 일시 중단 시 함께 중단됨)
+     * 세이브포인트로 되돌리면 그 이후 등록한 Aggregate를 빼고, 이전에 등록한 Aggregate는 세이브포인트 시점의 이벤트까지만 기록
+     */
+    private final class Batch implements SavepointAwareSynchronization {
+
+        private final Map<AggregateRoot, Boolean> registered = new IdentityHashMap<>();
+        private final List<AggregateRoot> aggregates = new ArrayList<>();
+        private final Map<AggregateRoot, Integer> eventLimits = new IdentityHashMap<>();
+        private final Map<Object, int[]> savepoints = new IdentityHashMap<>();
+        private int written;
+
+        void add(AggregateRoot aggregate) {
+            if (registered.put(aggregate, Boolean.TRUE) == null) {
+                aggregates.add(aggregate);
+            }
+        }
+
+        OutboxEventCollector owner() {
+            return OutboxEventCollector.this;
+        }
+
+        @Override
+        public void savepoint(Object savepoint) {
+            int[] eventCounts = new int[aggregates.size()];
+            for (int i = 0; i < eventCounts.length; i++) {
+                eventCounts[i] = eventCount(aggregates.get(i));
+            }
+            savepoints.put(savepoint, eventCounts);
+        }
+
+        @Override
+        public void savepointRollback(Object savepoint) {
+            int[] eventCounts = savepoints.remove(savepoint);
+            if (eventCounts == null) {
+                // 세이브포인트 이후에 생성된 Batch
+                eventCounts = new int[0];
+            }
+            while (aggregates.size() > eventCounts.length) {
+                AggregateRoot removed = aggregates.remove(aggregates.size() - 1);
+                registered.remove(removed);
+                eventLimits.remove(removed);
+            }
+            for (int i = 0; i < eventCounts.length; i++) {
+                eventLimits.put(aggregates.get(i), Math.min(eventCount(aggregates.get(i)), eventCounts[i]));
+            }
+        }
+
+        @Override
+        public void savepointRelease(Object savepoint) {
+            savepoints.remove(savepoint);
+        }
+
+        private int eventCount(AggregateRoot aggregate) {
+            Integer limit = eventLimits.get(aggregate);
+            int size = aggregate.getDomainEvents().size();
+            return limit != null ? Math.min(limit, size) : size;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            written = write(aggregates, this::eventCount);
+        }
+
+        @Override
+        public void afterCommit() {
+            if (written > 0) {
+                notificationSource.signal();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.lxp.common.domain.event.DomainEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도메인 이벤트 JSON 직렬화
+ * 이벤트 타입별 ObjectWriter를 한 번만 만들어 재사용
+ */
+final class OutboxEventSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    OutboxEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String serialize(DomainEvent event) {
+        ObjectWriter writer = writers.get(event.getClass());
+        if (writer == null) {
+            writer = writers.computeIfAbsent(event.getClass(), objectMapper::writerFor);
+        }
+        try {
+            return writer.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize domain event: " + event.getEventType(), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 행을 발행하기 위한 통합 이벤트
+ * 저장된 페이로드를 그대로 전달하며 source는 Aggregate 타입
+ */
+public final class OutboxMessage implements IntegrationEvent {
+
+    private final String eventId;
+    private final LocalDateTime occurredAt;
+    private final String eventType;
+    private final String aggregateType;
+    private final String aggregateId;
+    private final String payload;
+
+    private OutboxMessage(String eventId, LocalDateTime occurredAt, String eventType,
+                          String aggregateType, String aggregateId, String payload) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
+        this.eventType = eventType;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+
+    /**
+     * @param payload 디코딩된 페이로드 ({@link OutboxPayloadCodecRegistry#decode})
+     */
+    public static OutboxMessage from(OutboxEvent event, String payload) {
+        return new OutboxMessage(event.getEventId(), event.getCreatedAt(), event.getEventType(),
+                event.getAggregateType(), event.getAggregateId(), payload);
+    }
+
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public String getSource() {
+        return aggregateType;
+    }
+
+    @Override
+    public String getCorrelationId() {
+        return eventId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OutboxMessage[eventId=%s, eventType=%s, aggregate=%s:%s]",
+                eventId, eventType, aggregateType, aggregateId);
+    }
+}
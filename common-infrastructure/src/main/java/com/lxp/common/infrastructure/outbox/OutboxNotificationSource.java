@@ -0,0 +1,13 @@
+package com.lxp.common.infrastructure.outbox;
+
+/**
+ * 새 Outbox 이벤트 알림 소스
+ * {@link OutboxRelay}가 구독하여 알림을 받으면 대기 중인 워커를 즉시 깨움
+ */
+public interface OutboxNotificationSource {
+
+    /**
+     * 알림 구독 (알림 스레드에서 호출되므로 listener는 빠르게 반환해야 함)
+     */
+    void subscribe(Runnable listener);
+}
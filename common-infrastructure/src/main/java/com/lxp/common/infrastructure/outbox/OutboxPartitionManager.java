@@ -0,0 +1,123 @@
+package com.lxp.common.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * outbox_events 일 단위 파티션 관리 (PostgreSQL 14+ 선언적 파티셔닝)
+ * outbox_events가 created_at 기준 RANGE 파티션 테이블이어야 하며, 파티션 이름은 outbox_events_pYYYYMMDD
+ * 파티션 테이블의 PK와 event_id 유니크 제약에는 created_at이 포함되어야 하므로 엔티티 매핑으로는 생성할 수 없음
+ * (db/outbox/postgresql-partitioned-outbox.sql 참고)
+ *
+ * 보존 기간이 지난 파티션은 DETACH PARTITION ... CONCURRENTLY로 분리한 뒤 DROP TABLE로 제거
+ * FAILED / DEAD_LETTER 행은 제거 전에 outbox_events_archive로 옮기고, PENDING 행이 남은 파티션은 유지
+ */
+final class OutboxPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionManager.class);
+    private static final String PARENT_TABLE = "outbox_events";
+    private static final String ARCHIVE_TABLE = PARENT_TABLE + "_archive";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OutboxPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 오늘부터 daysAhead일 뒤까지의 파티션 생성 (이미 있으면 건너뜀)
+     */
+    void createAhead(LocalDate today, int daysAhead) {
+        for (int i = 0; i <= daysAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    PARTITION_PREFIX + day.format(SUFFIX), PARENT_TABLE, day, day.plusDays(1)));
+        }
+    }
+
+    /**
+     * 범위 끝이 cutoff 이전인 파티션 제거
+     * 이전 실행에서 분리만 되고 제거되지 않은 파티션도 함께 정리
+     * 트랜잭션 밖(auto-commit)에서 호출해야 함 (DETACH ... CONCURRENTLY 제약)
+     *
+     * @return 제거한 파티션의 행 수 목록
+     */
+    List<Long> dropBefore(LocalDate cutoff) {
+        Map<String, Boolean> attached = jdbcTemplate.queryForList(
+                        "SELECT c.relname, i.inhdetachpending FROM pg_inherits i"
+                                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                                + " JOIN pg_class p ON p.oid = i.inhparent"
+                                + " WHERE p.relname = ?",
+                        PARENT_TABLE).stream()
+                .collect(Collectors.toMap(
+                        row -> (String) row.get("relname"),
+                        row -> Boolean.TRUE.equals(row.get("inhdetachpending"))));
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = current_schema()"
+                        + " AND tablename LIKE '" + PARENT_TABLE + "\\_p%' ORDER BY tablename",
+                String.class);
+
+        return partitions.stream()
+                .filter(partition -> isExpired(partition, cutoff))
+                .map(partition -> drop(partition, attached.containsKey(partition), attached.get(partition)))
+                .filter(rows -> rows >= 0)
+                .toList();
+    }
+
+    private boolean isExpired(String partition, LocalDate cutoff) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return false;
+        }
+        try {
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            return !day.plusDays(1).isAfter(cutoff);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private long drop(String partition, boolean attached, Boolean detachPending) {
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + partition + " WHERE status = 'PENDING'", Long.class);
+        if (pending != null && pending > 0) {
+            log.warn("Skipping outbox partition {}: {} events are still pending", partition, pending);
+            return -1;
+        }
+
+        if (attached) {
+            // 분리가 중단된 파티션은 FINALIZE로 마무리 (CONCURRENTLY는 부모 테이블에 짧은 잠금만 사용)
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition
+                    + (Boolean.TRUE.equals(detachPending) ? " FINALIZE" : " CONCURRENTLY"));
+        }
+
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class);
+        long archived = archiveUnpublished(partition);
+        if (archived > 0) {
+            log.info("Archived {} unpublished events of outbox partition {} to {}", archived, partition, ARCHIVE_TABLE);
+        }
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * 분리된 파티션의 FAILED / DEAD_LETTER 행을 아카이브 테이블로 복사 (이미 복사된 event_id는 건너뜀)
+     */
+    private long archiveUnpublished(String partition) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ARCHIVE_TABLE
+                + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS)");
+        return jdbcTemplate.update("INSERT INTO " + ARCHIVE_TABLE + " SELECT * FROM " + partition + " e"
+                + " WHERE e.status <> 'PUBLISHED'"
+                + " AND NOT EXISTS (SELECT 1 FROM " + ARCHIVE_TABLE + " a WHERE a.event_id = e.event_id)");
+    }
+}
@@ -0,0 +1,17 @@
+package com.lxp.common.infrastructure.outbox;
+
+/**
+ * Outbox 페이로드 코덱
+ * 코덱 id는 행마다 저장되므로 한 번 사용한 id와 인코딩 형식은 변경하지 않아야 함
+ */
+public interface OutboxPayloadCodec {
+
+    /**
+     * 코덱 식별자 (payload_codec 컬럼 값, 최대 20자)
+     */
+    String id();
+
+    byte[] encode(String payload);
+
+    String decode(byte[] data);
+}
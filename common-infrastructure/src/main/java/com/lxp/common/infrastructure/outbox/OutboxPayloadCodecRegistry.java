@@ -0,0 +1,84 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox 페이로드 코덱 레지스트리
+ * 기본 제공 코덱(text, compact)에 OutboxPayloadCodec Bean을 더해 id로 조회 (같은 id의 Bean이 기본 코덱을 대체)
+ * 새 이벤트는 lxp.outbox.payload.codec(기본 text)으로 인코딩하고, 읽을 때는 행에 기록된 코덱으로 디코딩
+ * text 코덱은 기존 텍스트 컬럼(payload)에 그대로 기록하므로 payload_data/payload_codec 컬럼 없이도 동작
+ * (다른 코덱은 db/outbox 마이그레이션 적용 필요)
+ */
+@Component
+public class OutboxPayloadCodecRegistry {
+
+    private final Map<String, OutboxPayloadCodec> codecs;
+    private final OutboxPayloadCodec defaultCodec;
+
+    public OutboxPayloadCodecRegistry(
+            List<OutboxPayloadCodec> customCodecs,
+            @Value("${lxp.outbox.payload.codec:" + TextOutboxPayloadCodec.ID + "}") String defaultCodecId,
+            @Value("${lxp.outbox.payload.compression-threshold:32}") int compressionThreshold) {
+        Map<String, OutboxPayloadCodec> registered = new HashMap<>();
+        register(registered, new TextOutboxPayloadCodec());
+        register(registered, new CompactOutboxPayloadCodec(compressionThreshold));
+        customCodecs.forEach(codec -> register(registered, codec));
+
+        this.codecs = Map.copyOf(registered);
+        this.defaultCodec = codec(defaultCodecId);
+    }
+
+    /**
+     * 코덱 조회
+     */
+    public OutboxPayloadCodec codec(String id) {
+        OutboxPayloadCodec codec = codecs.get(id);
+        if (codec == null) {
+            throw new IllegalArgumentException("No outbox payload codec found: " + id);
+        }
+        return codec;
+    }
+
+    /**
+     * 기본 코덱으로 페이로드를 인코딩한 Outbox 이벤트 생성
+     */
+    public OutboxEvent newEvent(String eventType, String aggregateType, String aggregateId, String payload) {
+        return newEvent(null, null, eventType, aggregateType, aggregateId, payload);
+    }
+
+    /**
+     * 도메인 이벤트의 id와 발생 시각을 유지하여 생성 (event_id, created_at)
+     */
+    public OutboxEvent newEvent(String eventId, LocalDateTime occurredAt,
+                                String eventType, String aggregateType, String aggregateId, String payload) {
+        if (TextOutboxPayloadCodec.ID.equals(defaultCodec.id())) {
+            return new OutboxEvent(eventId, occurredAt, eventType, aggregateType, aggregateId, payload);
+        }
+        return new OutboxEvent(eventId, occurredAt, eventType, aggregateType, aggregateId,
+                defaultCodec.id(), defaultCodec.encode(payload));
+    }
+
+    /**
+     * 페이로드 디코딩 (코덱 id가 없는 기존 행은 텍스트 컬럼 사용)
+     */
+    public String decode(OutboxEvent event) {
+        if (event.getPayloadCodec() == null) {
+            return event.getPayload();
+        }
+        return codec(event.getPayloadCodec()).decode(event.getPayloadData());
+    }
+
+    private static void register(Map<String, OutboxPayloadCodec> registered, OutboxPayloadCodec codec) {
+        if (codec.id() == null || codec.id().isEmpty() || codec.id().length() > 20) {
+            throw new IllegalStateException("Outbox payload codec id must be 1-20 characters: " + codec.getClass().getName());
+        }
+        registered.put(codec.id(), codec);
+    }
+}
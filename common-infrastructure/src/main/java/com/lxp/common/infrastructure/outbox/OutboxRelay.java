@@ -0,0 +1,430 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.application.port.out.IntegrationEventPublisher;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+import com.lxp.common.infrastructure.persistence.OutboxEventRepository;
+import com.lxp.common.infrastructure.retry.ExponentialBackoff;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbox 릴레이
+ * 발행 대기 이벤트를 배치 단위로 선점(SELECT ... FOR UPDATE SKIP LOCKED)하여 {@link IntegrationEventPublisher}로 발행
+ *
+ * 상태 변경은 엔티티 변경 감지 대신 배치당 UPDATE 문으로 일괄 처리 (발행 완료 1회, 실패 사유별 1회)
+ * 선점, 발행, 상태 변경이 하나의 트랜잭션에서 수행되므로 여러 인스턴스가 동시에 실행되어도 같은 행을 중복 발행하지 않음
+ * 배치가 가득 차면 곧바로 다음 배치를 처리하고, 그렇지 않으면 pollIntervalMillis 동안 대기
+ *
+ * ordered 모드에서는 Aggregate(aggregate_type, aggregate_id)별 선두 이벤트와 후속 이벤트를 함께 선점하고
+ * Aggregate 단위 파티션을 병렬로, 파티션 내부는 id 순서대로 발행
+ * 발행에 실패하면 해당 파티션의 나머지 이벤트는 발행하지 않고 다음 배치로 미루며 다른 파티션은 계속 진행
+ *
+ * 실패한 이벤트는 지터를 적용한 지수 백오프로 다음 재시도 시각(next_attempt_at)을 정하고 그 시각 이후에만 다시 선점
+ * 재시도 한도(maxRetry)에 도달하면 DEAD_LETTER로 전환하여 더 이상 발행하지 않음
+ *
+ * TAILING 모드에서는 마지막으로 선점한 id(high-water mark) 이후의 PENDING 이벤트만 조회하고,
+ * 늦게 커밋된 행과 재시도 대상은 gapSweepIntervalMillis마다 전체 선점 조회로 보완
+ * 대기 간격은 이벤트가 있으면 minPollIntervalMillis로 줄이고 없으면 pollIntervalMillis까지 두 배씩 늘림
+ * 모든 모드에서 {@link OutboxNotificationSource} 알림을 받으면 대기 중인 워커를 즉시 깨움
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final IntegrationEventPublisher integrationEventPublisher;
+    private final OutboxPayloadCodecRegistry payloadCodecRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Mode mode;
+    private final long pollIntervalMillis;
+    private final long minPollIntervalMillis;
+    private final long gapSweepIntervalNanos;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxRetry;
+    private final ExponentialBackoff retryBackoff;
+    private final boolean ordered;
+    private final int partitionParallelism;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final AtomicLong highWaterMark = new AtomicLong();
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final WakeSignal wakeSignal = new WakeSignal();
+
+    private volatile ExecutorService workers;
+    private volatile ExecutorService partitionExecutor;
+    private volatile CountDownLatch stopSignal;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            IntegrationEventPublisher integrationEventPublisher,
+            OutboxPayloadCodecRegistry payloadCodecRegistry,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<OutboxNotificationSource> notificationSources,
+            @Value("${lxp.outbox.relay.mode:POLLING}") String mode,
+            @Value("${lxp.outbox.relay.poll-interval-millis:1000}") long pollIntervalMillis,
+            @Value("${lxp.outbox.relay.min-poll-interval-millis:10}") long minPollIntervalMillis,
+            @Value("${lxp.outbox.relay.gap-sweep-interval-millis:5000}") long gapSweepIntervalMillis,
+            @Value("${lxp.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${lxp.outbox.relay.concurrency:1}") int concurrency,
+            @Value("${lxp.outbox.relay.max-retry:3}") int maxRetry,
+            @Value("${lxp.outbox.relay.retry-backoff.initial-millis:1000}") long retryInitialMillis,
+            @Value("${lxp.outbox.relay.retry-backoff.multiplier:2.0}") double retryMultiplier,
+            @Value("${lxp.outbox.relay.retry-backoff.max-millis:300000}") long retryMaxMillis,
+            @Value("${lxp.outbox.relay.retry-backoff.jitter:0.5}") double retryJitter,
+            @Value("${lxp.outbox.relay.ordered:false}") boolean ordered,
+            @Value("${lxp.outbox.relay.partition-parallelism:0}") int partitionParallelism) {
+        if (pollIntervalMillis < 1 || batchSize < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Poll interval, batch size and concurrency must be at least 1");
+        }
+        if (minPollIntervalMillis < 1 || minPollIntervalMillis > pollIntervalMillis || gapSweepIntervalMillis < 1) {
+            throw new IllegalArgumentException("Min poll interval must be between 1 and poll interval, gap sweep interval at least 1");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.integrationEventPublisher = integrationEventPublisher;
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = Mode.valueOf(mode.toUpperCase());
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.minPollIntervalMillis = minPollIntervalMillis;
+        this.gapSweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(gapSweepIntervalMillis);
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxRetry = maxRetry;
+        this.retryBackoff = new ExponentialBackoff(retryInitialMillis, retryMultiplier, retryMaxMillis, retryJitter);
+        this.ordered = ordered;
+        this.partitionParallelism = partitionParallelism > 0
+                ? partitionParallelism
+                : Runtime.getRuntime().availableProcessors();
+        notificationSources.orderedStream().forEach(source -> source.subscribe(wakeSignal::signal));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        stopSignal = new CountDownLatch(1);
+        if (ordered) {
+            partitionExecutor = ExecutorFactory.newVirtualOrFixedThreadPool("outbox-relay-partition", partitionParallelism);
+        }
+        workers = Executors.newFixedThreadPool(concurrency, ExecutorFactory.namedThreadFactory("outbox-relay"));
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(this::pollLoop);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+        stopSignal.countDown();
+        wakeSignal.signal();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (partitionExecutor != null) {
+            partitionExecutor.shutdown();
+            partitionExecutor = null;
+        }
+        workers = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return workers != null;
+    }
+
+    /**
+     * 배치 하나를 선점하여 발행
+     *
+     * @return 선점한 이벤트 수
+     */
+    public int relayBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            PublishOutcome outcome = new PublishOutcome();
+            LocalDateTime now = LocalDateTime.now();
+            int claimedCount;
+            if (ordered) {
+                Map<String, List<OutboxEvent>> partitions = claimPartitions(now);
+                publishPartitions(partitions, outcome);
+                claimedCount = partitions.values().stream().mapToInt(List::size).sum();
+            } else {
+                List<OutboxEvent> events = claimEvents(now);
+                publishPipelined(events, outcome);
+                claimedCount = events.size();
+            }
+
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (!outcome.publishedIds.isEmpty()) {
+                outboxEventRepository.markPublished(outcome.publishedIds, completedAt);
+                published.add(outcome.publishedIds.size());
+            }
+            outcome.failedIds.forEach((failure, ids) -> {
+                if (failure.attempt() >= maxRetry) {
+                    outboxEventRepository.markDeadLetter(ids, failure.error());
+                    deadLettered.add(ids.size());
+                } else {
+                    LocalDateTime nextAttemptAt = completedAt.plus(retryBackoff.delayMillis(failure.attempt()), ChronoUnit.MILLIS);
+                    outboxEventRepository.markFailed(ids, failure.error(), nextAttemptAt);
+                    failed.add(ids.size());
+                }
+            });
+            deferred.add(outcome.deferred);
+            return claimedCount;
+        });
+        polls.increment();
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * 릴레이 처리 현황
+     */
+    public RelayStats stats() {
+        return new RelayStats(published.sum(), failed.sum(), deadLettered.sum(), deferred.sum(), polls.sum());
+    }
+
+    /**
+     * TAILING 모드에서는 high-water mark 이후만 조회하고 주기적으로 전체 선점 조회
+     */
+    private List<OutboxEvent> claimEvents(LocalDateTime now) {
+        if (mode == Mode.TAILING) {
+            long sweptAt = lastSweepNanos.get();
+            long current = System.nanoTime();
+            if (current - sweptAt < gapSweepIntervalNanos || !lastSweepNanos.compareAndSet(sweptAt, current)) {
+                List<OutboxEvent> events = outboxEventRepository.claimPendingEventsAfter(highWaterMark.get(), batchSize);
+                if (!events.isEmpty()) {
+                    highWaterMark.accumulateAndGet(events.get(events.size() - 1).getId(), Math::max);
+                }
+                return events;
+            }
+        }
+        return outboxEventRepository.claimPublishableEvents(maxRetry, now, batchSize);
+    }
+
+    /**
+     * Aggregate별 선두 이벤트를 선점하고 남은 배치 용량만큼 후속 이벤트를 id 순서대로 잠금 조회
+     */
+    private Map<String, List<OutboxEvent>> claimPartitions(LocalDateTime now) {
+        List<OutboxEvent> heads = outboxEventRepository.claimAggregateHeads(maxRetry, now, batchSize);
+        Map<String, List<OutboxEvent>> partitions = new LinkedHashMap<>();
+        if (heads.isEmpty()) {
+            return partitions;
+        }
+
+        int followerLimit = (batchSize - heads.size()) / heads.size();
+        for (OutboxEvent head : heads) {
+            List<OutboxEvent> partition = new ArrayList<>();
+            partition.add(head);
+            if (followerLimit > 0) {
+                partition.addAll(outboxEventRepository.findAggregateFollowers(
+                        head.getAggregateType(), head.getAggregateId(), head.getId(), maxRetry, followerLimit));
+            }
+            partitions.put(head.getAggregateType() + ":" + head.getAggregateId(), partition);
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션은 병렬로, 파티션 내부는 순서대로 발행하며 실패한 파티션의 나머지는 보류
+     */
+    private void publishPartitions(Map<String, List<OutboxEvent>> partitions, PublishOutcome outcome) {
+        ExecutorService executor = partitionExecutor;
+        if (executor == null) {
+            throw new IllegalStateException("Outbox relay is not running");
+        }
+        CompletableFuture<?>[] tasks = partitions.values().stream()
+                .map(partition -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < partition.size(); i++) {
+                        if (!publish(partition.get(i), outcome)) {
+                            outcome.defer(partition.size() - i - 1);
+                            return;
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture<?>[]::new);
+        CompletableFuture.allOf(tasks).join();
+    }
+
+    /**
+     * 모든 이벤트를 비동기로 발행한 뒤 전송 확인을 모아 결과 기록 (배치 전송 발행기에서 한 번에 전송됨)
+     */
+    private void publishPipelined(List<OutboxEvent> events, PublishOutcome outcome) {
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                acknowledgements.add(integrationEventPublisher.publishAsync(
+                        OutboxMessage.from(event, payloadCodecRegistry.decode(event))));
+            } catch (RuntimeException e) {
+                acknowledgements.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                acknowledgements.get(i).join();
+                outcome.published(event.getId());
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.warn("Failed to publish outbox event: {}", event.getEventId(), cause);
+                outcome.failed(event, truncate(String.valueOf(cause.getMessage())));
+            }
+        }
+    }
+
+    private boolean publish(OutboxEvent event, PublishOutcome outcome) {
+        try {
+            integrationEventPublisher.publish(OutboxMessage.from(event, payloadCodecRegistry.decode(event)));
+            outcome.published(event.getId());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish outbox event: {}", event.getEventId(), e);
+            outcome.failed(event, truncate(String.valueOf(e.getMessage())));
+            return false;
+        }
+    }
+
+    private void pollLoop() {
+        CountDownLatch signal = stopSignal;
+        long interval = mode == Mode.TAILING ? minPollIntervalMillis : pollIntervalMillis;
+        while (signal.getCount() > 0) {
+            long seen = wakeSignal.generation();
+            int claimed;
+            try {
+                claimed = relayBatch();
+            } catch (RuntimeException e) {
+                log.error("Outbox relay poll failed", e);
+                claimed = 0;
+            }
+            if (claimed >= batchSize) {
+                continue;
+            }
+            if (mode == Mode.TAILING) {
+                interval = claimed > 0 ? minPollIntervalMillis : Math.min(pollIntervalMillis, interval * 2);
+            }
+            try {
+                wakeSignal.await(seen, interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 릴레이 처리 현황
+     *
+     * @param published    발행 성공 이벤트 수
+     * @param failed       발행 실패 후 재시도 예약된 이벤트 수
+     * @param deadLettered 재시도 한도 초과로 DEAD_LETTER 처리된 이벤트 수
+     * @param deferred     앞선 이벤트 실패로 다음 배치로 미뤄진 이벤트 수 (ordered 모드)
+     * @param polls        선점 조회 횟수
+     */
+    public record RelayStats(long published, long failed, long deadLettered, long deferred, long polls) {
+    }
+
+    /**
+     * 배치 발행 결과 (파티션 스레드에서 동시에 기록)
+     */
+    private static final class PublishOutcome {
+
+        private final List<Long> publishedIds = new ArrayList<>();
+        private final Map<Failure, List<Long>> failedIds = new LinkedHashMap<>();
+        private int deferred;
+
+        synchronized void published(Long id) {
+            publishedIds.add(id);
+        }
+
+        synchronized void failed(OutboxEvent event, String error) {
+            failedIds.computeIfAbsent(new Failure(error, event.getRetryCount() + 1), key -> new ArrayList<>())
+                    .add(event.getId());
+        }
+
+        synchronized void defer(int count) {
+            deferred += count;
+        }
+    }
+
+    /**
+     * 조회 방식
+     */
+    public enum Mode {
+        POLLING,
+        TAILING
+    }
+
+    /**
+     * 워커 깨우기 신호
+     * 대기 직전이 아니라 배치 처리 시작 전에 본 세대와 비교하므로 처리 중에 온 알림도 놓치지 않음
+     */
+    private static final class WakeSignal {
+
+        private long generation;
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void signal() {
+            generation++;
+            notifyAll();
+        }
+
+        synchronized void await(long seenGeneration, long timeoutMillis) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (generation == seenGeneration) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * 실패 사유와 시도 번호가 같은 이벤트는 하나의 UPDATE로 처리
+     */
+    private record Failure(String error, int attempt) {
+    }
+}
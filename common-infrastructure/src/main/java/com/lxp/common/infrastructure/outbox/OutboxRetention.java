@@ -0,0 +1,221 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import com.lxp.common.infrastructure.persistence.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbox 보존 기간 정리
+ * 보존 기간(retentionHours)이 지난 발행 완료 이벤트를 주기적으로 제거
+ *
+ * DELETE: chunkSize건씩 id로 삭제하고 청크 사이에 pauseMillis 대기 (긴 잠금과 WAL 급증 방지)
+ * ARCHIVE: DELETE와 같되 삭제 전에 청크를 gzip 아카이브 파일로 기록
+ * PARTITION: 일 단위 파티션을 미리 생성하고 보존 기간이 지난 파티션을 DETACH 후 DROP (PostgreSQL 14+)
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.outbox.retention", name = "enabled", havingValue = "true")
+public class OutboxRetention implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetention.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxPartitionManager partitionManager;
+    private final Mode mode;
+    private final long retentionHours;
+    private final long intervalMillis;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final Path archiveDirectory;
+    private final int partitionDaysAhead;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder deletedRows = new LongAdder();
+    private final LongAdder archivedRows = new LongAdder();
+    private final LongAdder droppedPartitions = new LongAdder();
+    private final AtomicLong lastRunRows = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OutboxRetention(
+            OutboxEventRepository outboxEventRepository,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            @Value("${lxp.outbox.retention.mode:DELETE}") String mode,
+            @Value("${lxp.outbox.retention.retention-hours:168}") long retentionHours,
+            @Value("${lxp.outbox.retention.interval-millis:3600000}") long intervalMillis,
+            @Value("${lxp.outbox.retention.chunk-size:1000}") int chunkSize,
+            @Value("${lxp.outbox.retention.pause-millis:100}") long pauseMillis,
+            @Value("${lxp.outbox.retention.archive-dir:outbox-archive}") String archiveDirectory,
+            @Value("${lxp.outbox.retention.partition-days-ahead:3}") int partitionDaysAhead) {
+        if (retentionHours < 1 || intervalMillis < 1 || chunkSize < 1 || pauseMillis < 0 || partitionDaysAhead < 0) {
+            throw new IllegalArgumentException("Invalid outbox retention settings");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionManager = new OutboxPartitionManager(jdbcTemplate);
+        this.mode = Mode.valueOf(mode.toUpperCase());
+        this.retentionHours = retentionHours;
+        this.intervalMillis = intervalMillis;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.archiveDirectory = Path.of(archiveDirectory);
+        this.partitionDaysAhead = partitionDaysAhead;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(ExecutorFactory.namedThreadFactory("outbox-retention"));
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 정리 1회 실행
+     *
+     * @return 제거한 행 수
+     */
+    public synchronized long runOnce() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(retentionHours);
+
+        long removed = mode == Mode.PARTITION
+                ? dropPartitions(now, cutoff)
+                : deleteInChunks(now, cutoff);
+
+        runs.increment();
+        lastRunRows.set(removed);
+        lastRunMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Outbox retention removed {} events older than {} ({} ms)", removed, cutoff, lastRunMillis.get());
+        return removed;
+    }
+
+    /**
+     * 정리 현황
+     */
+    public RetentionStats stats() {
+        return new RetentionStats(runs.sum(), deletedRows.sum(), archivedRows.sum(), droppedPartitions.sum(),
+                lastRunRows.get(), lastRunMillis.get());
+    }
+
+    private long deleteInChunks(LocalDateTime now, LocalDateTime cutoff) {
+        OutboxEventArchiver archiver = null;
+        long removed = 0;
+        try {
+            while (true) {
+                List<Long> ids = outboxEventRepository.findPublishedIdsBefore(cutoff, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                if (mode == Mode.ARCHIVE) {
+                    if (archiver == null) {
+                        archiver = OutboxEventArchiver.open(archiveDirectory, now);
+                    }
+                    archiver.append(outboxEventRepository.findAllById(ids));
+                    archivedRows.add(ids.size());
+                }
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+                removed += ids.size();
+                deletedRows.add(ids.size());
+
+                if (ids.size() < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            if (archiver != null) {
+                archiver.close();
+                log.info("Outbox events archived to {}", archiver.file());
+            }
+        }
+        return removed;
+    }
+
+    private long dropPartitions(LocalDateTime now, LocalDateTime cutoff) {
+        partitionManager.createAhead(now.toLocalDate(), partitionDaysAhead);
+        List<Long> droppedRows = partitionManager.dropBefore(cutoff.toLocalDate());
+        droppedPartitions.add(droppedRows.size());
+        long removed = droppedRows.stream().mapToLong(Long::longValue).sum();
+        deletedRows.add(removed);
+        return removed;
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            runOnce();
+        } catch (RuntimeException e) {
+            log.error("Outbox retention run failed", e);
+        }
+    }
+
+    /**
+     * 정리 방식
+     */
+    public enum Mode {
+        DELETE,
+        ARCHIVE,
+        PARTITION
+    }
+
+    /**
+     * 정리 현황
+     *
+     * @param runs              실행 횟수
+     * @param deletedRows       제거한 누적 행 수 (파티션 DROP 포함)
+     * @param archivedRows      아카이브한 누적 행 수
+     * @param droppedPartitions 제거한 누적 파티션 수
+     * @param lastRunRows       마지막 실행에서 제거한 행 수
+     * @param lastRunMillis     마지막 실행 소요 시간
+     */
+    public record RetentionStats(long runs, long deletedRows, long archivedRows, long droppedPartitions,
+                                 long lastRunRows, long lastRunMillis) {
+    }
+}
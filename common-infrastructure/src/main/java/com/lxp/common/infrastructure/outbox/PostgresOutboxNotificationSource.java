@@ -0,0 +1,153 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 Outbox 알림
+ * 커넥션 풀과 별도로 DriverManager로 연 전용 커넥션에서 채널을 LISTEN하고 알림이 오면 구독자에게 전달
+ * (LISTEN 커넥션이 애플리케이션 풀의 커넥션을 계속 점유하지 않도록 함)
+ * 접속 정보는 lxp.outbox.notify.postgres.url / username / password, 없으면 spring.datasource.* 사용
+ * 드라이버 의존을 피하기 위해 org.postgresql.PGConnection#getNotifications(int)는 리플렉션으로 호출
+ *
+ * 알림은 {@code OutboxEventBatchWriter}가 같은 트랜잭션에서 NOTIFY를 실행하거나 테이블 트리거로 발생시킴
+ */
+@Component
+@ConditionalOnProperty(prefix = "lxp.outbox.notify.postgres", name = "enabled", havingValue = "true")
+public class PostgresOutboxNotificationSource implements OutboxNotificationSource, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresOutboxNotificationSource.class);
+    private static final int RECEIVE_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Thread listenerThread;
+
+    public PostgresOutboxNotificationSource(
+            @Value("${lxp.outbox.notify.postgres.url:${spring.datasource.url:}}") String url,
+            @Value("${lxp.outbox.notify.postgres.username:${spring.datasource.username:}}") String username,
+            @Value("${lxp.outbox.notify.postgres.password:${spring.datasource.password:}}") String password,
+            @Value("${lxp.outbox.notify.postgres.channel:outbox_events}") String channel) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        if (url.isBlank()) {
+            throw new IllegalArgumentException(
+                    "lxp.outbox.notify.postgres.url or spring.datasource.url is required for the LISTEN connection");
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+    }
+
+    @Override
+    public void subscribe(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        listenerThread = ExecutorFactory.namedThreadFactory("outbox-listen").newThread(this::listenLoop);
+        listenerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+        Thread thread = listenerThread;
+        listenerThread = null;
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listenerThread != null;
+    }
+
+    /**
+     * 릴레이보다 먼저 시작하고 나중에 종료
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1;
+    }
+
+    private void listenLoop() {
+        while (listenerThread == Thread.currentThread()) {
+            try (Connection connection = openConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                Object pgConnection = connection.unwrap(Class.forName("org.postgresql.PGConnection"));
+                Method getNotifications = pgConnection.getClass().getMethod("getNotifications", int.class);
+                // 연결 직후 놓친 알림이 있을 수 있으므로 한 번 깨움
+                notifyListeners();
+
+                while (listenerThread == Thread.currentThread()) {
+                    Object notifications = getNotifications.invoke(pgConnection, RECEIVE_TIMEOUT_MILLIS);
+                    if (notifications != null && Array.getLength(notifications) > 0) {
+                        notifyListeners();
+                    }
+                }
+            } catch (SQLException | InvocationTargetException e) {
+                if (listenerThread != Thread.currentThread()) {
+                    return;
+                }
+                log.warn("Outbox LISTEN connection failed, reconnecting", e);
+                if (!sleepBeforeReconnect()) {
+                    return;
+                }
+            } catch (ReflectiveOperationException e) {
+                log.error("PostgreSQL JDBC driver is required for outbox notifications", e);
+                return;
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        return username.isEmpty()
+                ? DriverManager.getConnection(url)
+                : DriverManager.getConnection(url, username, password);
+    }
+
+    private void notifyListeners() {
+        listeners.forEach(Runnable::run);
+    }
+
+    private boolean sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.lxp.common.infrastructure.outbox;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 텍스트 코덱
+ */
+public final class TextOutboxPayloadCodec implements OutboxPayloadCodec {
+
+    public static final String ID = "text";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] data) {
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -10,6 +10,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,12 +19,16 @@ import java.util.UUID;
 /**
  * Outbox 패턴용 이벤트 엔티티
  * 트랜잭션과 함께 이벤트 저장 후 별도 프로세스에서 발행
+ *
+ * 페이로드는 코덱으로 인코딩한 바이너리(payload_data)와 코덱 id(payload_codec)로 저장
+ * 코덱 id가 없는 행은 기존 텍스트 컬럼(payload)을 사용 (OutboxPayloadCodecRegistry#decode)
  */
 @Entity
 @Table(name = "outbox_events", indexes = {
         @Index(name = "idx_outbox_status", columnList = "status"),
         @Index(name = "idx_outbox_created_at", columnList = "created_at"),
-        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id")
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id"),
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
 })
 public class OutboxEvent {
 
@@ -43,9 +49,16 @@ public class OutboxEvent {
     private String aggregateId;
 
     @Lob
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload")
     private String payload;
 
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    @Column(name = "payload_data")
+    private byte[] payloadData;
+
+    @Column(name = "payload_codec", length = 20)
+    private String payloadCodec;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private OutboxStatus status;
@@ -62,17 +75,52 @@ public class OutboxEvent {
     @Column(name = "last_error", length = 1000)
     private String lastError;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     protected OutboxEvent() {
     }
 
     public OutboxEvent(String eventType, String aggregateType, String aggregateId, String payload) {
-        this.eventId = UUID.randomUUID().toString();
+        this(null, null, eventType, aggregateType, aggregateId, payload);
+    }
+
+    /**
+     * 인코딩된 페이로드로 생성
+     */
+    public OutboxEvent(String eventType, String aggregateType, String aggregateId,
+                       String payloadCodec, byte[] payloadData) {
+        this(null, null, eventType, aggregateType, aggregateId, payloadCodec, payloadData);
+    }
+
+    /**
+     * 도메인 이벤트의 id와 발생 시각으로 생성 (null이면 새 UUID / 현재 시각)
+     */
+    public OutboxEvent(String eventId, LocalDateTime occurredAt,
+                       String eventType, String aggregateType, String aggregateId, String payload) {
+        this(eventId, occurredAt, eventType, aggregateType, aggregateId);
+        this.payload = payload;
+    }
+
+    /**
+     * 도메인 이벤트의 id와 발생 시각, 인코딩된 페이로드로 생성
+     */
+    public OutboxEvent(String eventId, LocalDateTime occurredAt,
+                       String eventType, String aggregateType, String aggregateId,
+                       String payloadCodec, byte[] payloadData) {
+        this(eventId, occurredAt, eventType, aggregateType, aggregateId);
+        this.payloadCodec = payloadCodec;
+        this.payloadData = payloadData;
+    }
+
+    private OutboxEvent(String eventId, LocalDateTime occurredAt,
+                        String eventType, String aggregateType, String aggregateId) {
+        this.eventId = eventId != null ? eventId : UUID.randomUUID().toString();
         this.eventType = eventType;
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
-        this.payload = payload;
         this.status = OutboxStatus.PENDING;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = occurredAt != null ? occurredAt : LocalDateTime.now();
         this.retryCount = 0;
     }
 
@@ -87,6 +135,24 @@ public class OutboxEvent {
         this.retryCount++;
     }
 
+    /**
+     * 발행 실패 처리 후 다음 재시도 시각 지정
+     */
+    public void markAsFailed(String error, LocalDateTime nextAttemptAt) {
+        markAsFailed(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 재시도 한도 초과로 발행 포기
+     */
+    public void markAsDeadLetter(String error) {
+        this.status = OutboxStatus.DEAD_LETTER;
+        this.lastError = error;
+        this.retryCount++;
+        this.nextAttemptAt = null;
+    }
+
     public void markForRetry() {
         this.status = OutboxStatus.PENDING;
     }
@@ -112,10 +178,21 @@ public class OutboxEvent {
         return aggregateId;
     }
 
+    /**
+     * 텍스트 페이로드 (코덱 인코딩 이전에 저장된 행)
+     */
     public String getPayload() {
         return payload;
     }
 
+    public byte[] getPayloadData() {
+        return payloadData;
+    }
+
+    public String getPayloadCodec() {
+        return payloadCodec;
+    }
+
     public OutboxStatus getStatus() {
         return status;
     }
@@ -136,9 +213,14 @@ public class OutboxEvent {
         return lastError;
     }
 
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
     public enum OutboxStatus {
         PENDING,
         PUBLISHED,
-        FAILED
+        FAILED,
+        DEAD_LETTER
     }
 }
@@ -0,0 +1,108 @@
+package com.lxp.common.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 일괄 저장
+ * JPA persist 대신 JDBC 배치 INSERT로 여러 행을 한 번에 기록 (IDENTITY 키로 인한 행 단위 INSERT 회피)
+ * 호출 트랜잭션의 커넥션을 사용하므로 비즈니스 로직과 같은 트랜잭션에서 커밋됨
+ * 코덱 id가 없는 행은 payload_codec/payload_data 컬럼을 사용하지 않으므로 마이그레이션 전 스키마에도 기록 가능
+ * lxp.outbox.notify.postgres.enabled이면 같은 트랜잭션에서 NOTIFY를 실행하여 커밋 시점에 릴레이를 깨움
+ */
+@Component
+public class OutboxEventBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events
+                (event_id, event_type, aggregate_type, aggregate_id, payload, payload_codec, payload_data,
+                 status, created_at, retry_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String TEXT_INSERT_SQL = """
+            INSERT INTO outbox_events
+                (event_id, event_type, aggregate_type, aggregate_id, payload, status, created_at, retry_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final String notifySql;
+
+    public OutboxEventBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${lxp.outbox.writer.batch-size:500}") int batchSize,
+            @Value("${lxp.outbox.notify.postgres.enabled:false}") boolean notifyEnabled,
+            @Value("${lxp.outbox.notify.postgres.channel:outbox_events}") String notifyChannel) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        if (notifyEnabled && !notifyChannel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + notifyChannel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.notifySql = notifyEnabled ? "NOTIFY " + notifyChannel : null;
+    }
+
+    /**
+     * 이벤트 일괄 저장
+     * 생성된 id는 엔티티에 반영되지 않음
+     * 텍스트 행과 인코딩된 행이 섞여 있으면 순서(id 순서)를 유지하도록 연속 구간별로 나눠 INSERT
+     */
+    public void writeAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int start = 0;
+        while (start < events.size()) {
+            boolean text = events.get(start).getPayloadCodec() == null;
+            int end = start + 1;
+            while (end < events.size() && (events.get(end).getPayloadCodec() == null) == text) {
+                end++;
+            }
+            List<OutboxEvent> run = events.subList(start, end);
+            if (text) {
+                writeText(run);
+            } else {
+                writeEncoded(run);
+            }
+            start = end;
+        }
+        if (notifySql != null) {
+            jdbcTemplate.execute(notifySql);
+        }
+    }
+
+    private void writeText(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(TEXT_INSERT_SQL, events, batchSize, (ps, event) -> {
+            ps.setString(1, event.getEventId());
+            ps.setString(2, event.getEventType());
+            ps.setString(3, event.getAggregateType());
+            ps.setString(4, event.getAggregateId());
+            ps.setString(5, event.getPayload());
+            ps.setString(6, event.getStatus().name());
+            ps.setTimestamp(7, Timestamp.valueOf(event.getCreatedAt()));
+            ps.setInt(8, event.getRetryCount());
+        });
+    }
+
+    private void writeEncoded(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (ps, event) -> {
+            ps.setString(1, event.getEventId());
+            ps.setString(2, event.getEventType());
+            ps.setString(3, event.getAggregateType());
+            ps.setString(4, event.getAggregateId());
+            ps.setString(5, event.getPayload());
+            ps.setString(6, event.getPayloadCodec());
+            ps.setBytes(7, event.getPayloadData());
+            ps.setString(8, event.getStatus().name());
+            ps.setTimestamp(9, Timestamp.valueOf(event.getCreatedAt()));
+            ps.setInt(10, event.getRetryCount());
+        });
+    }
+}
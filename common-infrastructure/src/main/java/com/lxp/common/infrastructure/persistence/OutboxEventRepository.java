@@ -1,11 +1,16 @@
 package com.lxp.common.infrastructure.persistence;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,12 +34,129 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
 
     /**
      * 재시도 가능한 실패 이벤트 조회
+     * 재시도 시각과 건수 제한이 없으므로 {@link #findDueRetryEvents} 사용 권장
      */
     @Query("SELECT o FROM OutboxEvent o WHERE o.status = 'FAILED' AND o.retryCount < :maxRetry ORDER BY o.createdAt ASC")
     List<OutboxEvent> findRetryableEvents(@Param("maxRetry") int maxRetry);
 
+    /**
+     * 재시도 시각이 된 실패 이벤트 조회 (제한)
+     * (status, next_attempt_at) 인덱스 사용, 재시도 시각이 없는 기존 행은 즉시 대상
+     */
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = 'FAILED' AND o.retryCount < :maxRetry"
+            + " AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.nextAttemptAt ASC LIMIT :limit")
+    List<OutboxEvent> findDueRetryEvents(
+            @Param("maxRetry") int maxRetry,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 발행할 이벤트 선점 (PENDING 및 재시도 시각이 된 FAILED)
+     * SELECT ... FOR UPDATE SKIP LOCKED로 조회하므로 다른 인스턴스가 잠근 행은 건너뜀
+     * 잠금은 호출 트랜잭션이 끝날 때까지 유지됨
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = 'PENDING'"
+            + " OR (o.status = 'FAILED' AND o.retryCount < :maxRetry AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now))"
+            + " ORDER BY o.id ASC LIMIT :limit")
+    List<OutboxEvent> claimPublishableEvents(
+            @Param("maxRetry") int maxRetry,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 마지막으로 선점한 id 이후의 PENDING 이벤트 선점 (tailing 모드, SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = 'PENDING' AND o.id > :afterId ORDER BY o.id ASC LIMIT :limit")
+    List<OutboxEvent> claimPendingEventsAfter(
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Aggregate별 가장 앞선 발행 대상 이벤트 선점 (순서 보장 모드)
+     * 같은 Aggregate에 먼저 발행해야 할 이벤트가 남아 있는 행은 제외하므로 Aggregate당 한 건만 선점됨
+     * 재시도 시각이 되지 않은 FAILED 이벤트는 선점되지 않고 뒤따르는 이벤트를 계속 막음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE (o.status = 'PENDING'"
+            + " OR (o.status = 'FAILED' AND o.retryCount < :maxRetry AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now)))"
+            + " AND NOT EXISTS (SELECT p FROM OutboxEvent p WHERE p.aggregateType = o.aggregateType AND p.aggregateId = o.aggregateId"
+            + " AND p.id < o.id AND (p.status = 'PENDING' OR (p.status = 'FAILED' AND p.retryCount < :maxRetry)))"
+            + " ORDER BY o.id ASC LIMIT :limit")
+    List<OutboxEvent> claimAggregateHeads(
+            @Param("maxRetry") int maxRetry,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 선점한 이벤트 뒤에 이어지는 같은 Aggregate의 발행 대상 이벤트 잠금 조회 (순서 보장 모드)
+     * 선두 이벤트를 잠근 트랜잭션만 호출하므로 SKIP LOCKED 없이 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxEvent o WHERE o.aggregateType = :aggregateType AND o.aggregateId = :aggregateId"
+            + " AND o.id > :afterId AND (o.status = 'PENDING' OR (o.status = 'FAILED' AND o.retryCount < :maxRetry))"
+            + " ORDER BY o.id ASC LIMIT :limit")
+    List<OutboxEvent> findAggregateFollowers(
+            @Param("aggregateType") String aggregateType,
+            @Param("aggregateId") String aggregateId,
+            @Param("afterId") Long afterId,
+            @Param("maxRetry") int maxRetry,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 발행 완료 일괄 처리 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = 'PUBLISHED', o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(
+            @Param("ids") Collection<Long> ids,
+            @Param("publishedAt") LocalDateTime publishedAt
+    );
+
+    /**
+     * 발행 실패 일괄 처리 (단일 UPDATE, 재시도 횟수 증가 및 다음 재시도 시각 지정)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = 'FAILED', o.retryCount = o.retryCount + 1, o.lastError = :error,"
+            + " o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int markFailed(
+            @Param("ids") Collection<Long> ids,
+            @Param("error") String error,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt
+    );
+
+    /**
+     * 재시도 한도 초과 일괄 처리 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = 'DEAD_LETTER', o.retryCount = o.retryCount + 1, o.lastError = :error,"
+            + " o.nextAttemptAt = NULL WHERE o.id IN :ids")
+    int markDeadLetter(
+            @Param("ids") Collection<Long> ids,
+            @Param("error") String error
+    );
+
+    /**
+     * 기준 시각 이전에 발행 완료된 이벤트 id 조회 (청크 단위 정리용)
+     */
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.status = 'PUBLISHED' AND o.publishedAt < :before ORDER BY o.id ASC LIMIT :limit")
+    List<Long> findPublishedIdsBefore(
+            @Param("before") LocalDateTime before,
+            @Param("limit") int limit
+    );
+
     /**
      * 오래된 발행 완료 이벤트 삭제
+     * 단일 DELETE로 처리되므로 대용량 테이블에서는 {@code OutboxRetention}의 청크 삭제 사용
      */
     @Modifying
     @Query("DELETE FROM OutboxEvent o WHERE o.status = 'PUBLISHED' AND o.publishedAt < :before")
@@ -0,0 +1,46 @@
+package com.lxp.common.infrastructure.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 세이브포인트를 인지하는 트랜잭션 동기화
+ * 세이브포인트로 되돌릴 때 그 이후에 쌓은 상태도 함께 버려야 하는 동기화가 구현
+ * 트랜잭션 매니저는 세이브포인트를 동기화에 알리지 않으므로 세이브포인트를 다루는 쪽에서 정적 메서드로 직접 알려야 함
+ * 세이브포인트 이후에 등록된 동기화는 해당 세이브포인트를 모르므로 되돌릴 때 자신의 상태를 모두 버려야 함
+ */
+public interface SavepointAwareSynchronization extends TransactionSynchronization {
+
+    default void savepoint(Object savepoint) {
+    }
+
+    default void savepointRollback(Object savepoint) {
+    }
+
+    default void savepointRelease(Object savepoint) {
+    }
+
+    static void notifySavepoint(Object savepoint) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SavepointAwareSynchronization aware) {
+                aware.savepoint(savepoint);
+            }
+        }
+    }
+
+    static void notifySavepointRollback(Object savepoint) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SavepointAwareSynchronization aware) {
+                aware.savepointRollback(savepoint);
+            }
+        }
+    }
+
+    static void notifySavepointRelease(Object savepoint) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SavepointAwareSynchronization aware) {
+                aware.savepointRelease(savepoint);
+            }
+        }
+    }
+}
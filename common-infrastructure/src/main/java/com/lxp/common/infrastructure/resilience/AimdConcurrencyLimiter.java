@@ -0,0 +1,188 @@
+package com.lxp.common.infrastructure.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기반 AIMD 동시성 제한기
+ * 최근 지연(단기 EWMA)이 기준 지연(약 1분 시상수로 천천히 따라가고, 더 빨라지면 즉시 반영)의 latencyTolerance 배를 넘거나
+ * 과부하 실패가 발생하면 한도를 backoffRatio 배로 줄이고 (최근 지연 1회당 최대 1번),
+ * 그 외에는 한도의 절반 이상을 사용 중일 때 요청마다 1/limit씩 늘림 (지연 1회당 약 +1)
+ */
+public final class AimdConcurrencyLimiter {
+
+    private static final double RECENT_ALPHA = 0.1;
+    private static final double BASELINE_TIME_CONSTANT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition released = waitLock.newCondition();
+
+    private volatile double limit;
+    private double recentRttNanos;
+    private double baselineRttNanos;
+    private long lastDecreaseNanos;
+    private long lastSampleNanos;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  double latencyTolerance, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (latencyTolerance <= 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("Invalid limiter tuning: latencyTolerance=" + latencyTolerance
+                    + ", backoffRatio=" + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 처리 자리 획득
+     * 한도를 넘으면 maxWaitMillis 동안 자리가 날 때까지 대기
+     *
+     * @return 획득하지 못하면 false
+     */
+    public boolean tryAcquire(long maxWaitMillis) {
+        if (tryAcquireNow()) {
+            return true;
+        }
+        if (maxWaitMillis <= 0) {
+            rejected.increment();
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        waitLock.lock();
+        waiters.incrementAndGet();
+        try {
+            while (!tryAcquireNow()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    rejected.increment();
+                    return false;
+                }
+                released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            return false;
+        } finally {
+            waiters.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * 처리 자리 반환 및 지연 시간 반영
+     *
+     * @param startNanos 처리 시작 시각 (System.nanoTime)
+     */
+    public void release(long startNanos, Outcome outcome) {
+        inflight.decrementAndGet();
+        boolean grown = outcome != Outcome.IGNORED
+                && onSample(System.nanoTime() - startNanos, outcome == Outcome.DROPPED);
+        if (waiters.get() > 0) {
+            waitLock.lock();
+            try {
+                // 한도가 늘어나면 반환된 자리 외에 새 자리도 생기므로 대기자를 모두 깨움
+                if (grown) {
+                    released.signalAll();
+                } else {
+                    released.signal();
+                }
+            } finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public Snapshot snapshot() {
+        synchronized (this) {
+            return new Snapshot((int) limit, inflight.get(), rejected.sum(),
+                    recentRttNanos / 1_000_000.0, baselineRttNanos / 1_000_000.0);
+        }
+    }
+
+    private boolean tryAcquireNow() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return 정수 한도가 늘어났으면 true
+     */
+    private synchronized boolean onSample(long rttNanos, boolean dropped) {
+        long now = System.nanoTime();
+        if (recentRttNanos == 0) {
+            recentRttNanos = rttNanos;
+            baselineRttNanos = rttNanos;
+        } else {
+            recentRttNanos += RECENT_ALPHA * (rttNanos - recentRttNanos);
+            // 처리량과 무관하게 경과 시간 기준으로 기준 지연을 이동 (과부하 지연에 빠르게 적응하지 않도록)
+            double alpha = 1.0 - Math.exp(-(now - lastSampleNanos) / BASELINE_TIME_CONSTANT_NANOS);
+            baselineRttNanos = Math.min(recentRttNanos, baselineRttNanos + alpha * (recentRttNanos - baselineRttNanos));
+        }
+        lastSampleNanos = now;
+
+        double previous = limit;
+        double current = previous;
+        if (dropped || recentRttNanos > baselineRttNanos * latencyTolerance) {
+            if (now - lastDecreaseNanos >= recentRttNanos) {
+                current = Math.max(minLimit, current * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (inflight.get() * 2 >= (int) current) {
+            current = Math.min(maxLimit, current + 1.0 / current);
+        }
+        limit = current;
+        return (int) current > (int) previous;
+    }
+
+    /**
+     * 처리 결과
+     * SUCCESS: 지연 시간 반영 / DROPPED: 과부하 실패 (한도 감소) / IGNORED: 반영하지 않음 (비즈니스 실패 등)
+     */
+    public enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    /**
+     * 제한기 상태
+     *
+     * @param limit              현재 한도
+     * @param inflight           처리 중인 요청 수
+     * @param rejected           거부된 요청 수
+     * @param recentRttMillis    최근 지연 시간 (단기 EWMA)
+     * @param baselineRttMillis  기준 지연 시간
+     */
+    public record Snapshot(int limit, int inflight, long rejected, double recentRttMillis, double baselineRttMillis) {
+    }
+}
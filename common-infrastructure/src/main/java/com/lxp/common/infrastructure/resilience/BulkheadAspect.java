@@ -0,0 +1,82 @@
+package com.lxp.common.infrastructure.resilience;
+
+import com.lxp.common.annotaion.Bulkhead;
+import com.lxp.common.infrastructure.metrics.ResilienceMetrics;
+import com.lxp.common.resilience.BulkheadFullException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Bulkhead} Aspect
+ * 이름별 세마포어로 동시 호출 수를 제한하며, 자리를 얻지 못하면 {@link BulkheadFullException} 발생
+ * 세마포어 대기는 가상 스레드를 고정(pinning)하지 않으며, CompletionStage 반환 메소드는 완료 시점에 자리를 반환
+ */
+@Aspect
+@Component
+@Order(ResilienceOrder.BULKHEAD)
+public class BulkheadAspect {
+
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    private final ResilienceMetrics resilienceMetrics;
+
+    public BulkheadAspect(ResilienceMetrics resilienceMetrics) {
+        this.resilienceMetrics = resilienceMetrics;
+    }
+
+    @Around("@annotation(bulkhead)")
+    public Object limit(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        String name = bulkhead.name().isEmpty()
+                ? joinPoint.getSignature().toShortString()
+                : bulkhead.name();
+        Semaphore semaphore = semaphoreFor(name, bulkhead);
+        boolean acquired = bulkhead.maxWaitMillis() > 0
+                ? semaphore.tryAcquire(bulkhead.maxWaitMillis(), TimeUnit.MILLISECONDS)
+                : semaphore.tryAcquire();
+        if (!acquired) {
+            resilienceMetrics.recordBulkheadRejected(name);
+            throw new BulkheadFullException(name, bulkhead.maxConcurrentCalls());
+        }
+
+        boolean releaseOnCompletion = false;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CompletionStage<?> stage) {
+                releaseOnCompletion = true;
+                stage.whenComplete((value, error) -> semaphore.release());
+            }
+            return result;
+        } finally {
+            if (!releaseOnCompletion) {
+                semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * 남은 동시 호출 자리 (호출된 적 없으면 -1)
+     */
+    public int availablePermits(String name) {
+        Semaphore semaphore = semaphores.get(name);
+        return semaphore == null ? -1 : semaphore.availablePermits();
+    }
+
+    private Semaphore semaphoreFor(String name, Bulkhead bulkhead) {
+        Semaphore existing = semaphores.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        if (bulkhead.maxConcurrentCalls() < 1) {
+            throw new IllegalArgumentException("Bulkhead max concurrent calls must be at least 1: " + name);
+        }
+        return semaphores.computeIfAbsent(name, key -> new Semaphore(bulkhead.maxConcurrentCalls()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.lxp.common.infrastructure.resilience;
+
+import com.lxp.common.annotaion.CircuitBreaker;
+import com.lxp.common.infrastructure.metrics.ResilienceMetrics;
+import com.lxp.common.resilience.CallNotPermittedException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CircuitBreaker} Aspect
+ * 이름별 {@link SlidingWindowCircuitBreaker}로 호출을 차단하며, 차단 시 {@link CallNotPermittedException} 발생
+ * CompletionStage 반환 메소드는 완료 결과로 성공/실패를 집계
+ */
+@Aspect
+@Component
+@Order(ResilienceOrder.CIRCUIT_BREAKER)
+public class CircuitBreakerAspect {
+
+    private final Map<String, SlidingWindowCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ResilienceMetrics resilienceMetrics;
+
+    public CircuitBreakerAspect(ResilienceMetrics resilienceMetrics) {
+        this.resilienceMetrics = resilienceMetrics;
+    }
+
+    @Around("@annotation(circuitBreaker)")
+    public Object protect(ProceedingJoinPoint joinPoint, CircuitBreaker circuitBreaker) throws Throwable {
+        String name = circuitBreaker.name().isEmpty()
+                ? joinPoint.getSignature().toShortString()
+                : circuitBreaker.name();
+        SlidingWindowCircuitBreaker breaker = breakerFor(name, circuitBreaker);
+        if (!breaker.tryAcquirePermission()) {
+            resilienceMetrics.recordCallNotPermitted(name);
+            throw new CallNotPermittedException(name);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            onError(breaker, circuitBreaker, e);
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> {
+                if (error == null) {
+                    breaker.onSuccess();
+                } else {
+                    onError(breaker, circuitBreaker, CompletionStages.unwrap(error));
+                }
+            });
+        } else {
+            breaker.onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * 서킷 브레이커 상태 (호출된 적 없으면 null)
+     */
+    public SlidingWindowCircuitBreaker.State state(String name) {
+        SlidingWindowCircuitBreaker breaker = breakers.get(name);
+        return breaker == null ? null : breaker.state();
+    }
+
+    private SlidingWindowCircuitBreaker breakerFor(String name, CircuitBreaker circuitBreaker) {
+        SlidingWindowCircuitBreaker existing = breakers.get(name);
+        return existing != null ? existing : breakers.computeIfAbsent(name, key -> new SlidingWindowCircuitBreaker(
+                key,
+                circuitBreaker.failureRateThreshold(),
+                circuitBreaker.minimumCalls(),
+                circuitBreaker.windowSeconds(),
+                circuitBreaker.openMillis(),
+                circuitBreaker.halfOpenCalls(),
+                resilienceMetrics::recordStateTransition));
+    }
+
+    private static void onError(SlidingWindowCircuitBreaker breaker, CircuitBreaker circuitBreaker, Throwable error) {
+        if (matches(circuitBreaker.ignoreFor(), error)
+                || (circuitBreaker.recordFor().length > 0 && !matches(circuitBreaker.recordFor(), error))) {
+            breaker.onIgnored();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private static boolean matches(Class<? extends Throwable>[] types, Throwable error) {
+        for (Class<? extends Throwable> type : types) {
+            if (type.isInstance(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.lxp.common.infrastructure.resilience;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 비동기 결과 처리 유틸리티
+ */
+final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * CompletionException / ExecutionException에 감싸진 원인 예외
+     */
+    static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
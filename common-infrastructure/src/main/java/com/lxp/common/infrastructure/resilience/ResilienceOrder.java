@@ -0,0 +1,18 @@
+package com.lxp.common.infrastructure.resilience;
+
+import org.springframework.core.Ordered;
+
+/**
+ * 안정성 Aspect 적용 순서
+ * 바깥쪽부터 재시도 → 서킷 브레이커 → 벌크헤드 → 트랜잭션(기본 LOWEST_PRECEDENCE) 순으로 감싸므로
+ * 재시도마다 서킷 브레이커 허가와 벌크헤드 자리를 새로 얻고, 트랜잭션도 시도마다 새로 시작
+ */
+public final class ResilienceOrder {
+
+    public static final int RETRY = Ordered.LOWEST_PRECEDENCE - 300;
+    public static final int CIRCUIT_BREAKER = Ordered.LOWEST_PRECEDENCE - 200;
+    public static final int BULKHEAD = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private ResilienceOrder() {
+    }
+}
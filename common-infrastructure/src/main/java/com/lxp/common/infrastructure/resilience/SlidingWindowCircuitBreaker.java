@@ -0,0 +1,208 @@
+package com.lxp.common.infrastructure.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 기반 슬라이딩 윈도우 서킷 브레이커
+ * 최근 windowSeconds 초를 1초 단위 버킷으로 나눠 호출/실패 수를 집계 (락 없이 CAS로 버킷 교체)
+ * CLOSED: 실패율이 임계치 이상이면 OPEN / OPEN: openMillis 경과 후 HALF_OPEN
+ * HALF_OPEN: halfOpenCalls 건만 허용하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public final class SlidingWindowCircuitBreaker {
+
+    private static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final int windowSeconds;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final TransitionListener listener;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final AtomicReference<StateHolder> state;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    public SlidingWindowCircuitBreaker(String name, int failureRateThreshold, int minimumCalls, int windowSeconds,
+                                       long openMillis, int halfOpenCalls, TransitionListener listener) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be between 1 and 100: " + failureRateThreshold);
+        }
+        if (minimumCalls < 1 || windowSeconds < 1 || openMillis < 0 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Invalid circuit breaker configuration: " + name);
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowSeconds = windowSeconds;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = halfOpenCalls;
+        this.listener = listener;
+        this.buckets = new AtomicReferenceArray<>(windowSeconds);
+        this.state = new AtomicReference<>(new StateHolder(State.CLOSED, System.nanoTime()));
+    }
+
+    /**
+     * 호출 허용 여부
+     */
+    public boolean tryAcquirePermission() {
+        StateHolder current = state.get();
+        switch (current.state()) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - current.sinceNanos() < openNanos) {
+                    return false;
+                }
+                transition(current, State.HALF_OPEN);
+                return state.get().state() != State.OPEN && tryAcquireHalfOpenPermit();
+            default:
+                return tryAcquireHalfOpenPermit();
+        }
+    }
+
+    /**
+     * 성공 기록
+     */
+    public void onSuccess() {
+        StateHolder current = state.get();
+        if (current.state() == State.HALF_OPEN) {
+            if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                transition(current, State.CLOSED);
+            }
+        } else if (current.state() == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * 실패 기록
+     */
+    public void onFailure() {
+        StateHolder current = state.get();
+        if (current.state() == State.HALF_OPEN) {
+            transition(current, State.OPEN);
+        } else if (current.state() == State.CLOSED) {
+            record(true);
+            if (exceedsThreshold()) {
+                transition(current, State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 집계하지 않는 결과 기록 (HALF_OPEN 시험 호출 자리 반환)
+     */
+    public void onIgnored() {
+        if (state.get().state() == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    public State state() {
+        return state.get().state();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private boolean tryAcquireHalfOpenPermit() {
+        while (true) {
+            int permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void transition(StateHolder from, State to) {
+        if (!state.compareAndSet(from, new StateHolder(to, System.nanoTime()))) {
+            return;
+        }
+        switch (to) {
+            case OPEN -> halfOpenPermits.set(0);
+            case HALF_OPEN -> {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(halfOpenCalls);
+            }
+            case CLOSED -> {
+                for (int i = 0; i < windowSeconds; i++) {
+                    buckets.set(i, null);
+                }
+            }
+        }
+        listener.onTransition(name, from.state(), to);
+    }
+
+    private void record(boolean failure) {
+        long epoch = System.nanoTime() / BUCKET_NANOS;
+        int index = (int) Math.floorMod(epoch, (long) windowSeconds);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch != epoch) {
+            if (bucket != null && bucket.epoch > epoch) {
+                return;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(index);
+        }
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+    }
+
+    private boolean exceedsThreshold() {
+        long oldest = System.nanoTime() / BUCKET_NANOS - windowSeconds;
+        long calls = 0;
+        long failures = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > oldest) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return calls >= minimumCalls && failures * 100 >= (long) failureRateThreshold * calls;
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * 상태 전이 수신
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(String name, State from, State to);
+    }
+
+    private record StateHolder(State state, long sinceNanos) {
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -1,26 +1,27 @@
 package com.lxp.common.infrastructure.retry;
 
 import com.lxp.common.retry.RetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * 기본 재시도 정책
+ * 낙관적 락 충돌을 지터가 적용된 지수 백오프로 재시도
+ */
 @Component
 @ConditionalOnMissingBean(RetryPolicy.class)
-public class DefaultRetryPolicy implements RetryPolicy {
-
-    @Override
-    public int getMaxAttempts() {
-        return 3;
-    }
-
-    @Override
-    public long getBackoffMillis(int attempt) {
-        return 100L;
-    }
+public class DefaultRetryPolicy extends ExponentialBackoffRetryPolicy {
 
-    @Override
-    public boolean shouldRetry(Exception e) {
-        return e instanceof OptimisticLockingFailureException;
+    public DefaultRetryPolicy(
+            @Value("${lxp.retry.max-attempts:3}") int maxAttempts,
+            @Value("${lxp.retry.backoff.initial-millis:100}") long initialMillis,
+            @Value("${lxp.retry.backoff.multiplier:2.0}") double multiplier,
+            @Value("${lxp.retry.backoff.max-millis:2000}") long maxMillis,
+            @Value("${lxp.retry.backoff.jitter:FULL}") Jitter jitter) {
+        super(maxAttempts, initialMillis, multiplier, maxMillis, jitter, List.of(OptimisticLockingFailureException.class));
     }
 }
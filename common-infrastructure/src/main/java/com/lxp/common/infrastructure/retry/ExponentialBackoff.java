@@ -0,0 +1,51 @@
+package com.lxp.common.infrastructure.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지터를 적용한 지수 백오프
+ * 기본 지연 = min(maxMillis, initialMillis * multiplier^(attempt - 1))
+ * 실제 지연은 기본 지연에서 최대 jitterFactor 비율만큼 무작위로 줄인 값 (동시 재시도 분산)
+ */
+public final class ExponentialBackoff {
+
+    private final long initialMillis;
+    private final double multiplier;
+    private final long maxMillis;
+    private final double jitterFactor;
+
+    public ExponentialBackoff(long initialMillis, double multiplier, long maxMillis, double jitterFactor) {
+        if (initialMillis < 0 || multiplier < 1.0 || maxMillis < initialMillis) {
+            throw new IllegalArgumentException("Invalid backoff: initial=" + initialMillis
+                    + ", multiplier=" + multiplier + ", max=" + maxMillis);
+        }
+        if (jitterFactor < 0.0 || jitterFactor > 1.0) {
+            throw new IllegalArgumentException("Jitter factor must be between 0 and 1: " + jitterFactor);
+        }
+        this.initialMillis = initialMillis;
+        this.multiplier = multiplier;
+        this.maxMillis = maxMillis;
+        this.jitterFactor = jitterFactor;
+    }
+
+    /**
+     * 지터 적용 전 지연 시간
+     *
+     * @param attempt 1부터 시작하는 시도 번호
+     */
+    public long baseDelayMillis(int attempt) {
+        double delay = initialMillis * Math.pow(multiplier, Math.max(0, attempt - 1));
+        return (long) Math.min(maxMillis, delay);
+    }
+
+    /**
+     * 지터 적용 지연 시간
+     *
+     * @param attempt 1부터 시작하는 시도 번호
+     */
+    public long delayMillis(int attempt) {
+        long delay = baseDelayMillis(attempt);
+        long jitter = (long) (delay * jitterFactor);
+        return jitter == 0 ? delay : delay - ThreadLocalRandom.current().nextLong(jitter + 1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.lxp.common.infrastructure.retry;
+
+import com.lxp.common.retry.RetryPolicy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 재시도 정책
+ * 기본 지연 = min(maxMillis, initialMillis * multiplier^(attempt - 1))에 {@link Jitter}를 적용하여
+ * 여러 인스턴스의 재시도가 같은 시점에 몰리지 않도록 분산
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialMillis;
+    private final long maxMillis;
+    private final ExponentialBackoff backoff;
+    private final Jitter jitter;
+    private final List<Class<? extends Exception>> retryOn;
+
+    public ExponentialBackoffRetryPolicy(int maxAttempts, long initialMillis, double multiplier, long maxMillis,
+                                         Jitter jitter, Collection<Class<? extends Exception>> retryOn) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialMillis = initialMillis;
+        this.maxMillis = maxMillis;
+        this.backoff = new ExponentialBackoff(initialMillis, multiplier, maxMillis, 0.0);
+        this.jitter = jitter;
+        this.retryOn = List.copyOf(retryOn);
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public long getBackoffMillis(int attempt) {
+        long base = backoff.baseDelayMillis(attempt);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (jitter) {
+            case NONE -> base;
+            case FULL -> random.nextLong(base + 1);
+            case EQUAL -> base / 2 + random.nextLong(base - base / 2 + 1);
+            case DECORRELATED -> {
+                // 이전 대기 시간 없이 계산하므로 decorrelated jitter의 범위(initial ~ initial * 3^attempt)에서 선택
+                long upper = (long) Math.min(maxMillis, initialMillis * Math.pow(3, attempt));
+                yield upper <= initialMillis ? upper : random.nextLong(initialMillis, upper + 1);
+            }
+        };
+    }
+
+    @Override
+    public boolean shouldRetry(Exception e) {
+        for (Class<? extends Exception> type : retryOn) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지터 방식
+     * NONE: 기본 지연 그대로 / FULL: 0 ~ 기본 지연 / EQUAL: 기본 지연의 절반 + 0 ~ 절반
+     * DECORRELATED: initial ~ initial * 3^attempt (최대 maxMillis)
+     */
+    public enum Jitter {
+        NONE,
+        FULL,
+        EQUAL,
+        DECORRELATED
+    }
+}
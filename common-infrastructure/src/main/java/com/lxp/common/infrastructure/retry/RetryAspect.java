@@ -1,24 +1,97 @@
 package com.lxp.common.infrastructure.retry;
 
 import com.lxp.common.annotaion.Retryable;
+import com.lxp.common.infrastructure.concurrent.ExecutorFactory;
+import com.lxp.common.infrastructure.metrics.RetryMetrics;
+import com.lxp.common.infrastructure.resilience.ResilienceOrder;
+import com.lxp.common.resilience.CallNotPermittedException;
+import com.lxp.common.retry.RetryBudget;
 import com.lxp.common.retry.RetryPolicy;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Retryable} 재시도 Aspect
+ * CompletableFuture/CompletionStage 반환 메소드는 스레드를 점유하지 않고 대기 후 다음 시도를 예약
+ * 동기 메소드는 호출 스레드에서 정책의 백오프만큼 그대로 대기 (요청 스레드를 점유하면 안 되는 경우 CompletionStage 반환 사용)
+ * {@link RetryBudget} Bean이 있으면 예산이 남아 있을 때만 재시도하며, 결과는 {@link RetryMetrics}에 기록
+ * 서킷 브레이커 / 벌크헤드보다 바깥에서 적용되며, 서킷 브레이커가 차단한 호출은 재시도하지 않음
+ *
+ * 비동기 재시도의 두 번째 시도부터는 재시도 실행기 스레드에서 수행되므로 호출 스레드에 묶인 컨텍스트가 전달되지 않음
+ * MDC, SecurityContext 등은 {@link TaskDecorator} Bean을 등록하면 호출 시점에 캡처해 매 재시도마다 복원
+ * 트랜잭션은 스레드 간에 전달할 수 없으므로 재시도는 호출자 트랜잭션 밖에서 실행됨
+ * (트랜잭션 안에서 호출되면 경고를 남김, 재시도 단위로 트랜잭션이 필요하면 대상 메소드에서 직접 시작)
+ */
 @Aspect
 @Component
-public class RetryAspect {
+@Order(ResilienceOrder.RETRY)
+public class RetryAspect implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryAspect.class);
 
     private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final RetryMetrics retryMetrics;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService retryExecutor;
+    private final TaskDecorator taskDecorator;
+    private final Set<String> transactionWarned = ConcurrentHashMap.newKeySet();
 
-    public RetryAspect(RetryPolicy retryPolicy) {
+    public RetryAspect(
+            RetryPolicy retryPolicy,
+            ObjectProvider<RetryBudget> retryBudgetProvider,
+            RetryMetrics retryMetrics,
+            ObjectProvider<TaskDecorator> taskDecoratorProvider,
+            @Value("${lxp.retry.async.pool-size:0}") int asyncPoolSize) {
         this.retryPolicy = retryPolicy;
+        this.retryBudget = retryBudgetProvider.getIfAvailable();
+        this.retryMetrics = retryMetrics;
+        this.taskDecorator = taskDecoratorProvider.getIfUnique();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ExecutorFactory.namedThreadFactory("retry-scheduler"));
+        this.retryExecutor = ExecutorFactory.newVirtualOrFixedThreadPool("retry-async",
+                asyncPoolSize > 0 ? asyncPoolSize : Runtime.getRuntime().availableProcessors());
     }
 
     @Around("@annotation(retryable)")
     public Object retry(ProceedingJoinPoint joinPoint, Retryable retryable) throws Throwable {
+        String operation = joinPoint.getSignature().toShortString();
+        retryMetrics.recordCall(operation);
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
+        }
+
+        if (returnsCompletionStage(joinPoint)) {
+            if (TransactionSynchronizationManager.isActualTransactionActive() && transactionWarned.add(operation)) {
+                log.warn("Async retry of {} is called inside a transaction; retries run outside of it", operation);
+            }
+            AsyncRetry retry = new AsyncRetry(joinPoint, retryable, operation);
+            attemptAsync(retry, 1);
+            return retry.result;
+        }
+
         int maxAttempts = resolveMaxAttempts(retryable);
         int attempt = 0;
 
@@ -27,16 +100,111 @@ public class RetryAspect {
                 attempt++;
                 return joinPoint.proceed();
             } catch (Exception e) {
-                if (!retryPolicy.shouldRetry(e) || attempt >= maxAttempts) {
+                if (!canRetry(retryable, operation, attempt, maxAttempts, e)) {
                     throw e;
                 }
 
                 long backoff = resolveBackoff(retryable, attempt);
-                Thread.sleep(backoff);
+                if (backoff > 0) {
+                    Thread.sleep(backoff);
+                }
             }
         }
     }
 
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        retryExecutor.shutdown();
+    }
+
+    /**
+     * 비동기 시도
+     * 실패하면 백오프 후 재시도 실행기에서 다음 시도를 수행하며, 호출자가 결과를 취소하면 중단
+     */
+    private void attemptAsync(AsyncRetry retry, int attempt) {
+        if (retry.result.isDone()) {
+            return;
+        }
+        CompletionStage<?> stage;
+        try {
+            stage = (CompletionStage<?>) retry.joinPoint.proceed();
+        } catch (Throwable e) {
+            onAsyncFailure(retry, attempt, e);
+            return;
+        }
+        if (stage == null) {
+            retry.result.complete(null);
+            return;
+        }
+        stage.whenComplete((value, error) -> {
+            if (error == null) {
+                retry.result.complete(value);
+            } else {
+                onAsyncFailure(retry, attempt, unwrap(error));
+            }
+        });
+    }
+
+    private void onAsyncFailure(AsyncRetry retry, int attempt, Throwable error) {
+        CompletableFuture<Object> result = retry.result;
+        if (!(error instanceof Exception e)
+                || !canRetry(retry.retryable, retry.operation, attempt, resolveMaxAttempts(retry.retryable), e)) {
+            result.completeExceptionally(error);
+            return;
+        }
+        retry.nextAttempt = attempt + 1;
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    retryExecutor.execute(retry.contextual);
+                } catch (RejectedExecutionException rejected) {
+                    result.completeExceptionally(error);
+                }
+            }, resolveBackoff(retry.retryable, attempt), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejected) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 재시도 여부 판단 (재시도 대상 예외, 남은 시도 횟수, 재시도 예산 순) 및 기록
+     */
+    private boolean canRetry(Retryable retryable, String operation, int attempt, int maxAttempts, Exception e) {
+        if (!shouldRetry(retryable, e)) {
+            return false;
+        }
+        if (attempt >= maxAttempts) {
+            retryMetrics.recordExhausted(operation);
+            return false;
+        }
+        if (retryBudget != null && !retryBudget.tryAcquireRetry()) {
+            retryMetrics.recordBudgetExhausted(operation);
+            return false;
+        }
+        retryMetrics.recordRetry(operation, attempt);
+        return true;
+    }
+
+    /**
+     * retryFor가 지정되면 해당 예외만, 아니면 RetryPolicy 기준으로 재시도
+     */
+    private boolean shouldRetry(Retryable retryable, Exception e) {
+        if (e instanceof CallNotPermittedException) {
+            return false;
+        }
+        Class<? extends Exception>[] retryFor = retryable.retryFor();
+        if (retryFor.length == 0) {
+            return retryPolicy.shouldRetry(e);
+        }
+        for (Class<? extends Exception> type : retryFor) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private int resolveMaxAttempts(Retryable retryable) {
         return retryable.maxAttempts() > 0
                 ? retryable.maxAttempts()
@@ -48,4 +216,49 @@ public class RetryAspect {
                 ? retryable.backoffMillis()
                 : retryPolicy.getBackoffMillis(attempt);
     }
+
+    private static boolean returnsCompletionStage(ProceedingJoinPoint joinPoint) {
+        if (!(joinPoint.getSignature() instanceof MethodSignature signature)) {
+            return false;
+        }
+        Class<?> returnType = signature.getReturnType();
+        return CompletionStage.class.isAssignableFrom(returnType)
+                && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    /**
+     * 진행 중인 비동기 재시도
+     * 호출 스레드에서 생성되며, TaskDecorator가 있으면 이때 캡처한 컨텍스트로 다음 시도를 감쌈
+     * 한 번에 하나의 시도만 진행되므로 다음 시도 번호는 예약 전에 기록
+     */
+    private final class AsyncRetry implements Runnable {
+
+        private final ProceedingJoinPoint joinPoint;
+        private final Retryable retryable;
+        private final String operation;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final Runnable contextual;
+        private volatile int nextAttempt;
+
+        private AsyncRetry(ProceedingJoinPoint joinPoint, Retryable retryable, String operation) {
+            this.joinPoint = joinPoint;
+            this.retryable = retryable;
+            this.operation = operation;
+            this.contextual = taskDecorator != null ? taskDecorator.decorate(this) : this;
+        }
+
+        @Override
+        public void run() {
+            attemptAsync(this, nextAttempt);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
 }
@@ -0,0 +1,96 @@
+package com.lxp.common.infrastructure.retry;
+
+import com.lxp.common.retry.RetryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 재시도 예산
+ * 최초 시도마다 ratio 토큰을 적립하고 재시도마다 1 토큰을 차감 (최대 maxTokens)
+ * 트래픽이 적을 때도 재시도할 수 있도록 초당 minRetriesPerSecond 토큰을 시간에 따라 추가 적립
+ */
+@Component
+@ConditionalOnMissingBean(RetryBudget.class)
+@ConditionalOnProperty(prefix = "lxp.retry.budget", name = "enabled", havingValue = "true")
+public class TokenBucketRetryBudget implements RetryBudget {
+
+    private static final long SCALE = 1_000;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final double refillPerNano;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillNanos;
+
+    public TokenBucketRetryBudget(
+            @Value("${lxp.retry.budget.ratio:0.1}") double ratio,
+            @Value("${lxp.retry.budget.min-retries-per-second:10}") double minRetriesPerSecond,
+            @Value("${lxp.retry.budget.max-tokens:100}") long maxTokens) {
+        if (ratio < 0.0 || minRetriesPerSecond < 0.0 || maxTokens < 1) {
+            throw new IllegalArgumentException("Invalid retry budget: ratio=" + ratio
+                    + ", minRetriesPerSecond=" + minRetriesPerSecond + ", maxTokens=" + maxTokens);
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxTokens * SCALE;
+        this.refillPerNano = minRetriesPerSecond * SCALE / NANOS_PER_SECOND;
+        this.balance = new AtomicLong(Math.min(maxBalance, Math.round(minRetriesPerSecond * SCALE)));
+        this.lastRefillNanos = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public void recordRequest() {
+        deposit(depositPerRequest);
+    }
+
+    @Override
+    public boolean tryAcquireRetry() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 허용 가능한 재시도 횟수
+     */
+    public long availableRetries() {
+        refill();
+        return balance.get() / SCALE;
+    }
+
+    private void refill() {
+        if (refillPerNano == 0.0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        long tokens = (long) ((now - last) * refillPerNano);
+        if (tokens > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            deposit(tokens);
+        }
+    }
+
+    private void deposit(long amount) {
+        while (true) {
+            long current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            if (balance.compareAndSet(current, Math.min(maxBalance, current + amount))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- Outbox 페이로드 코덱 컬럼 추가 (MySQL 8)
+-- lxp.outbox.payload.codec을 text 이외의 코덱(compact 등)으로 바꾸기 전에 적용
+-- JPA로 OutboxEvent를 저장하는 경우 엔티티가 두 컬럼을 매핑하므로 코덱과 관계없이 적용 필요
+ALTER TABLE outbox_events
+    ADD COLUMN payload_data LONGBLOB NULL,
+    ADD COLUMN payload_codec VARCHAR(20) NULL,
+    MODIFY COLUMN payload LONGTEXT NULL;
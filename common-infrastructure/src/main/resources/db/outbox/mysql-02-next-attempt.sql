@@ -0,0 +1,6 @@
+-- Outbox 재시도 예약 컬럼 추가 (MySQL 8)
+-- OutboxEvent 엔티티가 next_attempt_at을 매핑하므로 이 버전으로 업그레이드하기 전에 적용 필요
+-- 실패한 이벤트의 다음 시도 시각이며, NULL이면 즉시 선점 대상
+ALTER TABLE outbox_events
+    ADD COLUMN next_attempt_at DATETIME(6) NULL,
+    ADD INDEX idx_outbox_status_next_attempt (status, next_attempt_at);
@@ -0,0 +1,6 @@
+-- Outbox 페이로드 코덱 컬럼 추가 (PostgreSQL)
+-- lxp.outbox.payload.codec을 text 이외의 코덱(compact 등)으로 바꾸기 전에 적용
+-- JPA로 OutboxEvent를 저장하는 경우 엔티티가 두 컬럼을 매핑하므로 코덱과 관계없이 적용 필요
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS payload_data bytea;
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS payload_codec varchar(20);
+ALTER TABLE outbox_events ALTER COLUMN payload DROP NOT NULL;
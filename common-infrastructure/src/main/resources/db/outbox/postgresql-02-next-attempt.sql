@@ -0,0 +1,6 @@
+-- Outbox 재시도 예약 컬럼 추가 (PostgreSQL)
+-- OutboxEvent 엔티티가 next_attempt_at을 매핑하므로 이 버전으로 업그레이드하기 전에 적용 필요
+-- 실패한 이벤트의 다음 시도 시각이며, NULL이면 즉시 선점 대상
+-- 운영 중인 테이블은 CREATE INDEX 대신 CREATE INDEX CONCURRENTLY 사용 권장 (트랜잭션 밖에서 실행)
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at timestamp;
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON outbox_events (status, next_attempt_at);
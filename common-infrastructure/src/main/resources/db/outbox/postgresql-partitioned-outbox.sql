@@ -0,0 +1,28 @@
+-- created_at 기준 일 단위 RANGE 파티션 outbox_events (PostgreSQL 14+, lxp.outbox.retention.mode=PARTITION)
+-- 파티션 테이블의 PK / 유니크 제약에는 파티션 키가 포함되어야 하므로
+-- 엔티티 매핑(id PK, event_id unique)으로 스키마를 생성하지 말고 이 DDL을 사용
+-- event_id 유일성은 같은 created_at 안에서만 보장됨 (도메인 이벤트 id는 UUID이므로 실제 충돌 없음)
+-- 파티션(outbox_events_pYYYYMMDD)은 OutboxRetention이 partition-days-ahead일 앞까지 생성
+CREATE TABLE outbox_events (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY,
+    event_id        varchar(36)  NOT NULL,
+    event_type      varchar(255) NOT NULL,
+    aggregate_type  varchar(255) NOT NULL,
+    aggregate_id    varchar(255) NOT NULL,
+    payload         text,
+    payload_data    bytea,
+    payload_codec   varchar(20),
+    status          varchar(20)  NOT NULL,
+    created_at      timestamp    NOT NULL,
+    published_at    timestamp,
+    retry_count     integer      NOT NULL DEFAULT 0,
+    last_error      varchar(1000),
+    next_attempt_at timestamp,
+    PRIMARY KEY (id, created_at),
+    UNIQUE (event_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_outbox_status ON outbox_events (status);
+CREATE INDEX idx_outbox_created_at ON outbox_events (created_at);
+CREATE INDEX idx_outbox_aggregate ON outbox_events (aggregate_type, aggregate_id);
+CREATE INDEX idx_outbox_status_next_attempt ON outbox_events (status, next_attempt_at);
@@ -0,0 +1,164 @@
+package com.lxp.common.infrastructure.event;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import com.lxp.common.application.port.in.IntegrationEventHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(30)
+class InProcessIntegrationEventBusTest {
+
+    @Test
+    void handlerRepublishingIntoFullRingIsRejectedInsteadOfDeadlocking() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<String> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch republished = new CountDownLatch(1);
+        InProcessIntegrationEventBus[] bus = new InProcessIntegrationEventBus[1];
+
+        TestHandler handler = new TestHandler(event -> {
+            handled.add(event.getEventType());
+            if (event.getEventType().equals("origin")) {
+                for (int i = 0; i < 8; i++) {
+                    try {
+                        bus[0].publish(new TestEvent("follow-up"));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                republished.countDown();
+            }
+        });
+        bus[0] = new InProcessIntegrationEventBus(providerOf(handler), 4,
+                InProcessIntegrationEventBus.WaitStrategy.BLOCKING, 5_000);
+        bus[0].start();
+
+        long start = System.nanoTime();
+        bus[0].publish(new TestEvent("origin"));
+        assertTrue(republished.await(1, TimeUnit.SECONDS), "republishing handler must not wait for its own consumer");
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        bus[0].stop();
+        assertEquals(3, accepted.get());
+        assertEquals(5, rejected.get());
+        assertEquals(4, handled.size());
+        assertEquals(5L, bus[0].stats().rejected());
+    }
+
+    @Test
+    void publisherFailsAfterTimeoutWhenHandlerIsStuck() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TestHandler handler = new TestHandler(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        InProcessIntegrationEventBus bus = new InProcessIntegrationEventBus(providerOf(handler), 2,
+                InProcessIntegrationEventBus.WaitStrategy.BLOCKING, 100);
+        bus.start();
+        try {
+            bus.publish(new TestEvent("a"));
+            bus.publish(new TestEvent("b"));
+
+            long start = System.nanoTime();
+            assertThrows(IllegalStateException.class, () -> bus.publish(new TestEvent("c")));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        } finally {
+            release.countDown();
+            bus.stop();
+        }
+    }
+
+    private static ObjectProvider<IntegrationEventHandler<?>> providerOf(IntegrationEventHandler<?> handler) {
+        return new ObjectProvider<>() {
+            @Override
+            public IntegrationEventHandler<?> getObject() {
+                return handler;
+            }
+
+            @Override
+            public IntegrationEventHandler<?> getObject(Object... args) {
+                return handler;
+            }
+
+            @Override
+            public IntegrationEventHandler<?> getIfAvailable() {
+                return handler;
+            }
+
+            @Override
+            public IntegrationEventHandler<?> getIfUnique() {
+                return handler;
+            }
+
+            @Override
+            public Stream<IntegrationEventHandler<?>> orderedStream() {
+                return Stream.of(handler);
+            }
+        };
+    }
+
+    private record TestHandler(Consumer<TestEvent> action)
+            implements IntegrationEventHandler<TestEvent> {
+
+        @Override
+        public void handle(TestEvent event) {
+            action.accept(event);
+        }
+
+        @Override
+        public Class<TestEvent> supportedEventType() {
+            return TestEvent.class;
+        }
+    }
+
+    private record TestEvent(String eventId, String eventType, LocalDateTime occurredAt) implements IntegrationEvent {
+
+        TestEvent(String eventType) {
+            this(UUID.randomUUID().toString(), eventType, LocalDateTime.now());
+        }
+
+        @Override
+        public String getEventId() {
+            return eventId;
+        }
+
+        @Override
+        public LocalDateTime getOccurredAt() {
+            return occurredAt;
+        }
+
+        @Override
+        public String getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public String getSource() {
+            return "test";
+        }
+
+        @Override
+        public String getCorrelationId() {
+            return eventId;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.lxp.common.infrastructure.event;
+
+import com.lxp.common.infrastructure.event.InProcessIntegrationEventBus.WaitStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(30)
+class IntegrationEventRingBufferTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 20_000;
+
+    @Test
+    void everyConsumerSeesEachProducerInOrderAcrossWraparound() throws Exception {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            // BUSY_SPIN은 스레드마다 코어가 있어야 진행되므로 코어가 부족하면 생략
+            if (waitStrategy == WaitStrategy.BUSY_SPIN
+                    && Runtime.getRuntime().availableProcessors() < PRODUCERS + 2) {
+                continue;
+            }
+            IntegrationEventRingBuffer<long[]> buffer = new IntegrationEventRingBuffer<>(8, 2, waitStrategy);
+            List<ConsumerLoop> consumers = List.of(new ConsumerLoop(buffer, 0), new ConsumerLoop(buffer, 1));
+            consumers.forEach(ConsumerLoop::start);
+
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                producers.add(start(() -> {
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        assertTrue(buffer.publish(new long[]{producer, i}, -1));
+                    }
+                }));
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            buffer.close();
+
+            for (ConsumerLoop consumer : consumers) {
+                consumer.stopAndJoin();
+                assertNull(consumer.failure.get(), waitStrategy + ": " + consumer.failure.get());
+                assertEquals((long) PRODUCERS * PER_PRODUCER, consumer.received, waitStrategy.name());
+                for (int p = 0; p < PRODUCERS; p++) {
+                    assertEquals(PER_PRODUCER - 1, consumer.lastSeen[p], waitStrategy.name());
+                }
+            }
+            for (long sequence = buffer.claimedSequence() - 7; sequence <= buffer.claimedSequence(); sequence++) {
+                assertNull(buffer.get(sequence), "consumed slot must be cleared");
+            }
+        }
+    }
+
+    @Test
+    void publishGivesUpAfterTimeoutWhenFull() {
+        IntegrationEventRingBuffer<long[]> buffer = new IntegrationEventRingBuffer<>(2, 1, WaitStrategy.BLOCKING);
+        assertTrue(buffer.publish(new long[]{0}, 0));
+        assertTrue(buffer.publish(new long[]{1}, 0));
+
+        assertFalse(buffer.publish(new long[]{2}, 0));
+        long start = System.nanoTime();
+        assertFalse(buffer.publish(new long[]{2}, TimeUnit.MILLISECONDS.toNanos(50)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void blockedProducerResumesWhenConsumerAdvances() throws Exception {
+        IntegrationEventRingBuffer<long[]> buffer = new IntegrationEventRingBuffer<>(2, 1, WaitStrategy.BLOCKING);
+        buffer.publish(new long[]{0}, 0);
+        buffer.publish(new long[]{1}, 0);
+
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        Thread producer = start(() -> result.set(buffer.publish(new long[]{2}, -1)));
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertTrue(producer.isAlive(), "producer must wait while the ring is full");
+
+        buffer.consumed(0);
+        buffer.advance(0, 0);
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        assertEquals(Boolean.TRUE, result.get());
+    }
+
+    @Test
+    void closeWakesProducersWaitingForSpace() throws Exception {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            IntegrationEventRingBuffer<long[]> buffer = new IntegrationEventRingBuffer<>(2, 1, waitStrategy);
+            buffer.publish(new long[]{0}, 0);
+            buffer.publish(new long[]{1}, 0);
+
+            CountDownLatch started = new CountDownLatch(3);
+            List<AtomicReference<Throwable>> failures = new ArrayList<>();
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                failures.add(failure);
+                producers.add(start(() -> {
+                    started.countDown();
+                    try {
+                        buffer.publish(new long[]{2}, -1);
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    }
+                }));
+            }
+            started.await();
+            TimeUnit.MILLISECONDS.sleep(50);
+
+            buffer.close();
+            for (int i = 0; i < producers.size(); i++) {
+                producers.get(i).join(TimeUnit.SECONDS.toMillis(5));
+                assertFalse(producers.get(i).isAlive(), waitStrategy + ": producer still blocked after close");
+                assertInstanceOf(IllegalStateException.class, failures.get(i).get(), waitStrategy.name());
+            }
+            assertEquals(1L, buffer.claimedSequence(), waitStrategy.name());
+        }
+    }
+
+    private static Thread start(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * InProcessIntegrationEventBus 소비자와 같은 방식으로 소비하며 생산자별 순서를 검사
+     */
+    private static final class ConsumerLoop {
+
+        private final IntegrationEventRingBuffer<long[]> buffer;
+        private final int index;
+        private final long[] lastSeen = new long[PRODUCERS];
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long received;
+
+        ConsumerLoop(IntegrationEventRingBuffer<long[]> buffer, int index) {
+            this.buffer = buffer;
+            this.index = index;
+            Arrays.fill(lastSeen, -1);
+            this.thread = new Thread(this::run);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void stopAndJoin() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        private void run() {
+            long next = 0;
+            try {
+                while (true) {
+                    long available = buffer.waitFor(next, () -> running);
+                    if (available < 0) {
+                        if (buffer.claimedSequence() < next) {
+                            return;
+                        }
+                        continue;
+                    }
+                    for (long s = next; s <= available; s++) {
+                        long[] entry = buffer.get(s);
+                        int producer = (int) entry[0];
+                        if (entry[1] != lastSeen[producer] + 1) {
+                            throw new AssertionError("producer " + producer + " out of order: "
+                                    + lastSeen[producer] + " -> " + entry[1]);
+                        }
+                        lastSeen[producer] = entry[1];
+                        received++;
+                        buffer.consumed(s);
+                    }
+                    buffer.advance(index, available);
+                    next = available + 1;
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.lxp.common.infrastructure.outbox;
+
+import com.lxp.common.application.event.IntegrationEvent;
+import com.lxp.common.application.port.out.IntegrationEventPublisher;
+import com.lxp.common.infrastructure.persistence.OutboxEvent;
+import com.lxp.common.infrastructure.persistence.OutboxEventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 H2에서 릴레이 선점 경로 검증 (Hibernate가 생성한 FOR UPDATE SKIP LOCKED 사용)
+ */
+@SpringJUnitConfig(OutboxRelayClaimTest.JpaConfig.class)
+@Timeout(60)
+class OutboxRelayClaimTest {
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeEach
+    void clear() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void claimedEventsArePublishedRetriedAndDeadLettered() {
+        repository.saveAll(List.of(event("Ok"), event("Broken"), event("Ok")));
+        RecordingPublisher publisher = new RecordingPublisher("Broken");
+        OutboxRelay relay = relay(publisher, 10, 0);
+
+        assertEquals(3, relay.relayBatch());
+        Map<String, List<OutboxEvent>> rows = rowsByType();
+        rows.get("Ok").forEach(row -> {
+            assertEquals(OutboxEvent.OutboxStatus.PUBLISHED, row.getStatus());
+            assertNotNull(row.getPublishedAt());
+        });
+        OutboxEvent broken = rows.get("Broken").get(0);
+        assertEquals(OutboxEvent.OutboxStatus.FAILED, broken.getStatus());
+        assertEquals(1, broken.getRetryCount());
+        assertEquals("broker unavailable", broken.getLastError());
+        assertNotNull(broken.getNextAttemptAt());
+
+        // 재시도 시각이 된 FAILED 이벤트만 다시 선점하고, 한도(2)에 도달하면 DEAD_LETTER
+        assertEquals(1, relay.relayBatch());
+        broken = rowsByType().get("Broken").get(0);
+        assertEquals(OutboxEvent.OutboxStatus.DEAD_LETTER, broken.getStatus());
+        assertEquals(2, broken.getRetryCount());
+        assertNull(broken.getNextAttemptAt());
+
+        assertEquals(0, relay.relayBatch());
+        assertEquals(4, publisher.attempts.get());
+        OutboxRelay.RelayStats stats = relay.stats();
+        assertEquals(2, stats.published());
+        assertEquals(1, stats.failed());
+        assertEquals(1, stats.deadLettered());
+    }
+
+    @Test
+    void failedEventIsNotClaimedBeforeNextAttempt() {
+        repository.saveAll(List.of(event("Broken")));
+        OutboxRelay relay = relay(new RecordingPublisher("Broken"), 10, 60_000);
+
+        assertEquals(1, relay.relayBatch());
+        assertEquals(0, relay.relayBatch());
+
+        OutboxEvent broken = repository.findAll().get(0);
+        assertEquals(OutboxEvent.OutboxStatus.FAILED, broken.getStatus());
+        assertTrue(broken.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+    }
+
+    @Test
+    void concurrentRelaysSkipRowsClaimedByEachOther() throws Exception {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(event("Ok"));
+        }
+        repository.saveAll(events);
+
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> published = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        IntegrationEventPublisher blockingPublisher = new RecordingPublisher(null, published, duplicates) {
+            @Override
+            public void publish(IntegrationEvent event) {
+                super.publish(event);
+                holding.countDown();
+                await(release);
+            }
+        };
+        OutboxRelay first = relay(blockingPublisher, 10, 0);
+        OutboxRelay second = relay(new RecordingPublisher(null, published, duplicates), 10, 0);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 첫 번째 릴레이가 선점한 10건의 잠금을 쥔 채 발행 중일 때 두 번째 릴레이 실행
+            Future<Integer> firstClaimed = executor.submit(first::relayBatch);
+            assertTrue(holding.await(10, TimeUnit.SECONDS));
+
+            assertEquals(10, second.relayBatch());
+
+            release.countDown();
+            assertEquals(10, firstClaimed.get(30, TimeUnit.SECONDS).intValue());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, duplicates.get());
+        assertEquals(20, published.size());
+        assertEquals(0, second.relayBatch());
+        repository.findAll().forEach(row -> assertEquals(OutboxEvent.OutboxStatus.PUBLISHED, row.getStatus()));
+    }
+
+    private OutboxRelay relay(IntegrationEventPublisher publisher, int batchSize, long retryInitialMillis) {
+        return new OutboxRelay(
+                repository,
+                publisher,
+                new OutboxPayloadCodecRegistry(List.of(), TextOutboxPayloadCodec.ID, 32),
+                transactionManager,
+                applicationContext.getBeanProvider(OutboxNotificationSource.class),
+                "POLLING", 1000, 10, 5000, batchSize, 1, 2,
+                retryInitialMillis, 2.0, Math.max(retryInitialMillis, 1), 0.0,
+                false, 1);
+    }
+
+    private Map<String, List<OutboxEvent>> rowsByType() {
+        return repository.findAll().stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getEventType, Collectors.mapping(Function.identity(),
+                        Collectors.toList())));
+    }
+
+    private static OutboxEvent event(String eventType) {
+        return new OutboxEvent(eventType, "Course", "1", "{\"title\":\"test\"}");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * failingType 이벤트는 실패시키고 나머지는 발행된 이벤트 id를 기록
+     */
+    private static class RecordingPublisher implements IntegrationEventPublisher {
+
+        private final String failingType;
+        private final Set<String> published;
+        private final AtomicInteger duplicates;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        RecordingPublisher(String failingType) {
+            this(failingType, ConcurrentHashMap.newKeySet(), new AtomicInteger());
+        }
+
+        RecordingPublisher(String failingType, Set<String> published, AtomicInteger duplicates) {
+            this.failingType = failingType;
+            this.published = published;
+            this.duplicates = duplicates;
+        }
+
+        @Override
+        public void publish(IntegrationEvent event) {
+            attempts.incrementAndGet();
+            if (event.getEventType().equals(failingType)) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            if (!published.add(event.getEventId())) {
+                duplicates.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void publish(String topic, IntegrationEvent event) {
+            publish(event);
+        }
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = OutboxEventRepository.class)
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .generateUniqueName(true)
+                    .setType(EmbeddedDatabaseType.H2)
+                    .build();
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(OutboxEvent.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.lxp.common.infrastructure.retry;
+
+import com.lxp.common.annotaion.Retryable;
+import com.lxp.common.infrastructure.metrics.DefaultRetryMetrics;
+import com.lxp.common.retry.RetryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 충돌이 몰릴 때 동기 / 비동기 재시도의 요청 스레드 점유 비교
+ * 요청마다 처음 CONFLICTS번 낙관적 락 충돌 후 성공하며, 요청 풀은 REQUEST_THREADS개 스레드로 고정
+ */
+@Timeout(60)
+class RetryAspectLoadTest {
+
+    private static final int REQUEST_THREADS = 4;
+    private static final int REQUESTS = 32;
+    private static final int CONFLICTS = 3;
+    private static final long BACKOFF_MILLIS = 50;
+
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    private final List<RetryAspect> aspects = new ArrayList<>();
+
+    @AfterEach
+    void destroy() {
+        aspects.forEach(RetryAspect::destroy);
+    }
+
+    @Test
+    void asyncRetryReleasesRequestThreadsDuringBackoff() throws Exception {
+        Occupancy sync = runLoad(false);
+        Occupancy async = runLoad(true);
+        System.out.printf("sync:  %s%nasync: %s%n", sync, async);
+
+        // 동기 재시도는 백오프 동안 요청 스레드를 그대로 점유
+        long backoffPerRequest = CONFLICTS * BACKOFF_MILLIS;
+        assertTrue(sync.busyMillis() >= REQUESTS * backoffPerRequest * 9 / 10, sync.toString());
+        assertEquals(REQUEST_THREADS, sync.peakBusyThreads());
+
+        // 비동기 재시도는 첫 시도만 요청 스레드에서 실행하고 바로 반환
+        assertTrue(async.busyMillis() * 10 < sync.busyMillis(), async + " vs " + sync);
+        assertTrue(async.wallMillis() < sync.wallMillis(), async + " vs " + sync);
+        assertEquals(REQUESTS * (CONFLICTS + 1), sync.attempts());
+        assertEquals(REQUESTS * (CONFLICTS + 1), async.attempts());
+    }
+
+    @Test
+    void asyncRetryRestoresCallerContextThroughTaskDecorator() throws Exception {
+        TaskDecorator decorator = runnable -> {
+            String captured = CALLER.get();
+            return () -> {
+                String previous = CALLER.get();
+                CALLER.set(captured);
+                try {
+                    runnable.run();
+                } finally {
+                    CALLER.set(previous);
+                }
+            };
+        };
+        ConflictingServiceImpl target = new ConflictingServiceImpl();
+
+        List<String> seen = callAsyncAs("caller-1", target, newAspect(decorator));
+        assertEquals(List.of("caller-1", "caller-1", "caller-1", "caller-1"), seen);
+    }
+
+    @Test
+    void asyncRetryWithoutTaskDecoratorLosesCallerContext() throws Exception {
+        ConflictingServiceImpl target = new ConflictingServiceImpl();
+
+        List<String> seen = callAsyncAs("caller-1", target, newAspect(null));
+        assertEquals(CONFLICTS + 1, seen.size());
+        assertEquals("caller-1", seen.get(0));
+        for (String context : seen.subList(1, seen.size())) {
+            assertNull(context);
+        }
+    }
+
+    private List<String> callAsyncAs(String caller, ConflictingServiceImpl target, RetryAspect aspect) throws Exception {
+        CALLER.set(caller);
+        try {
+            CompletableFuture<String> result = proxy(target, aspect).updateAsync("course-1");
+            assertEquals("updated course-1", result.get(10, TimeUnit.SECONDS));
+        } finally {
+            CALLER.remove();
+        }
+        return target.contexts;
+    }
+
+    /**
+     * 요청 풀에서 REQUESTS건을 동시에 실행하고 요청 스레드가 점유된 시간을 측정
+     */
+    private Occupancy runLoad(boolean async) throws Exception {
+        ConflictingServiceImpl target = new ConflictingServiceImpl();
+        ConflictingService service = proxy(target, newAspect(null));
+        ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        AtomicLong busyNanos = new AtomicLong();
+        AtomicInteger busyThreads = new AtomicInteger();
+        AtomicInteger peakBusyThreads = new AtomicInteger();
+        List<Future<CompletableFuture<String>>> submitted = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                String key = "course-" + i;
+                submitted.add(requestPool.submit(() -> {
+                    peakBusyThreads.accumulateAndGet(busyThreads.incrementAndGet(), Math::max);
+                    long begin = System.nanoTime();
+                    try {
+                        return async ? service.updateAsync(key) : CompletableFuture.completedFuture(service.update(key));
+                    } finally {
+                        busyNanos.addAndGet(System.nanoTime() - begin);
+                        busyThreads.decrementAndGet();
+                    }
+                }));
+            }
+            for (int i = 0; i < REQUESTS; i++) {
+                assertEquals("updated course-" + i, submitted.get(i).get().get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            requestPool.shutdownNow();
+        }
+        long wallNanos = System.nanoTime() - start;
+        return new Occupancy(TimeUnit.NANOSECONDS.toMillis(busyNanos.get()), TimeUnit.NANOSECONDS.toMillis(wallNanos),
+                peakBusyThreads.get(), target.attempts.get());
+    }
+
+    private RetryAspect newAspect(TaskDecorator decorator) {
+        RetryAspect aspect = new RetryAspect(
+                new DefaultRetryPolicy(CONFLICTS + 1, BACKOFF_MILLIS, 1.0, BACKOFF_MILLIS,
+                        ExponentialBackoffRetryPolicy.Jitter.NONE),
+                providerOf((RetryBudget) null),
+                new DefaultRetryMetrics(),
+                providerOf(decorator),
+                REQUEST_THREADS);
+        aspects.add(aspect);
+        return aspect;
+    }
+
+    private static ConflictingService proxy(ConflictingServiceImpl target, RetryAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static <T> ObjectProvider<T> providerOf(T bean) {
+        return new ObjectProvider<>() {
+            @Override
+            public T getObject() {
+                return bean;
+            }
+
+            @Override
+            public T getObject(Object... args) {
+                return bean;
+            }
+
+            @Override
+            public T getIfAvailable() {
+                return bean;
+            }
+
+            @Override
+            public T getIfUnique() {
+                return bean;
+            }
+        };
+    }
+
+    private record Occupancy(long busyMillis, long wallMillis, int peakBusyThreads, int attempts) {
+
+        @Override
+        public String toString() {
+            return "request-thread busy " + busyMillis + "ms, wall " + wallMillis + "ms, peak busy threads "
+                    + peakBusyThreads + ", attempts " + attempts;
+        }
+    }
+
+    public interface ConflictingService {
+
+        String update(String key);
+
+        CompletableFuture<String> updateAsync(String key);
+    }
+
+    /**
+     * 같은 키의 처음 CONFLICTS번 시도는 낙관적 락 충돌로 실패
+     */
+    public static class ConflictingServiceImpl implements ConflictingService {
+
+        private final Map<String, AtomicInteger> conflicts = new ConcurrentHashMap<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<String> contexts = new CopyOnWriteArrayList<>();
+
+        @Override
+        @Retryable
+        public String update(String key) {
+            attempts.incrementAndGet();
+            if (conflicts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet() <= CONFLICTS) {
+                throw new OptimisticLockingFailureException("conflict on " + key);
+            }
+            return "updated " + key;
+        }
+
+        @Override
+        @Retryable
+        public CompletableFuture<String> updateAsync(String key) {
+            contexts.add(CALLER.get());
+            try {
+                return CompletableFuture.completedFuture(update(key));
+            } catch (OptimisticLockingFailureException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+}